@@ -0,0 +1,98 @@
+package org.nostalgia.auth.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.nostalgia.auth.config.NostalgiaTokenConfigurationParameter;
+import org.nostalgia.auth.filter.NostalgiaBearerTokenAuthenticationFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole per-request path of the {@link NostalgiaBearerTokenAuthenticationFilter}: reading the bearer token,
+ * verifying and parsing it, checking it against the invalid token index and populating the security context.
+ * <p>
+ * The token services are the real implementations, while their ports are mocked, so the numbers do not include
+ * any database access. The invalid token index is loaded with {@link #revokedTokenCount} revoked tokens.
+ * {@link #filterWithoutToken(Blackhole)} measures the overhead of the filter for a request without a bearer token.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NostalgiaBearerTokenAuthenticationFilterBenchmark {
+
+    @Param({"0", "100000"})
+    private int revokedTokenCount;
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private NostalgiaBearerTokenAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest requestWithoutToken;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setup() {
+        final NostalgiaTokenConfigurationParameter tokenConfiguration = NostalgiaTokenBenchmarkFixture.tokenConfiguration(Map.of());
+        final NostalgiaAuthorityRegistry authorityRegistry = new NostalgiaAuthorityRegistry();
+        final NostalgiaTokenServiceImpl tokenService = new NostalgiaTokenServiceImpl(
+                tokenConfiguration,
+                new NostalgiaVerifiedTokenCache(verifiedCacheSize, new SimpleMeterRegistry()),
+                NostalgiaTokenBenchmarkFixture.permissionDictionary(authorityRegistry),
+                authorityRegistry
+        );
+
+        this.filter = new NostalgiaBearerTokenAuthenticationFilter(
+                tokenService,
+                NostalgiaTokenBenchmarkFixture.invalidTokenService(revokedTokenCount)
+        );
+
+        final String accessToken = tokenService.generate(NostalgiaTokenBenchmarkFixture.claims()).getAccessToken();
+
+        this.request = new MockHttpServletRequest("GET", "/api/v1/users");
+        this.request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+        this.requestWithoutToken = new MockHttpServletRequest("GET", "/api/v1/users");
+        this.response = new MockHttpServletResponse();
+        this.filterChain = (servletRequest, servletResponse) -> {
+        };
+    }
+
+    @Benchmark
+    public void filter(final Blackhole blackhole) throws ServletException, IOException {
+        filter.doFilter(request, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void filterWithoutToken(final Blackhole blackhole) throws ServletException, IOException {
+        filter.doFilter(requestWithoutToken, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.nostalgia.auth.service.impl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.experimental.UtilityClass;
+import org.mockito.Mockito;
+import org.nostalgia.auth.config.NostalgiaTokenConfigurationParameter;
+import org.nostalgia.auth.model.NostalgiaInvalidToken;
+import org.nostalgia.auth.model.NostalgiaPermission;
+import org.nostalgia.auth.model.enums.NostalgiaConfigurationParameter;
+import org.nostalgia.auth.model.enums.NostalgiaTokenClaims;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenChangeFeedPort;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenDeletePort;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenReadPort;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenSavePort;
+import org.nostalgia.auth.port.NostalgiaPermissionReadPort;
+import org.nostalgia.parameter.model.NostalgiaParameter;
+import org.nostalgia.parameter.service.NostalgiaParameterService;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Shared fixtures of the token benchmarks, which build the token service collaborators without a database.
+ */
+@UtilityClass
+class NostalgiaTokenBenchmarkFixture {
+
+    static final List<String> PERMISSION_NAMES = List.of(
+            "user:list", "user:detail", "user:create", "user:update", "user:delete",
+            "role:list", "role:detail", "role:create", "role:update", "role:delete"
+    );
+
+    /**
+     * Builds a token configuration from the given parameters, falling back to the defaults for the others.
+     */
+    static NostalgiaTokenConfigurationParameter tokenConfiguration(final Map<NostalgiaConfigurationParameter, String> definitions) {
+
+        final Map<String, NostalgiaParameter> parameters = definitions.entrySet().stream()
+                .map(definition -> NostalgiaParameter.builder()
+                        .name(definition.getKey().name())
+                        .definition(definition.getValue())
+                        .build())
+                .collect(Collectors.toMap(NostalgiaParameter::getName, Function.identity()));
+
+        return new NostalgiaTokenConfigurationParameter(new NostalgiaParameterService() {
+
+            @Override
+            public Map<String, NostalgiaParameter> findAll(String prefixOfName) {
+                return parameters;
+            }
+
+            @Override
+            public NostalgiaParameter findByName(String name) {
+                return null;
+            }
+
+            @Override
+            public void refresh() {
+            }
+
+        }, developmentEnvironment());
+    }
+
+    /**
+     * Builds an environment with the {@code dev} profile, in which an ephemeral key pair is generated
+     * if the signing keys are not given.
+     */
+    private static Environment developmentEnvironment() {
+        final StandardEnvironment environment = new StandardEnvironment();
+        environment.setActiveProfiles("dev");
+        return environment;
+    }
+
+    /**
+     * Builds a permission dictionary of the {@link #PERMISSION_NAMES} which resolves its authorities
+     * through the given registry.
+     */
+    static NostalgiaPermissionDictionary permissionDictionary(final NostalgiaAuthorityRegistry authorityRegistry) {
+
+        final List<NostalgiaPermission> permissions = PERMISSION_NAMES.stream()
+                .<NostalgiaPermission>map(permissionName -> NostalgiaPermission.builder()
+                        .id(UUID.randomUUID().toString())
+                        .name(permissionName)
+                        .build())
+                .toList();
+
+        return new NostalgiaPermissionDictionary(new NostalgiaPermissionReadPort() {
+
+            @Override
+            public List<NostalgiaPermission> findAll() {
+                return permissions;
+            }
+
+            @Override
+            public List<NostalgiaPermission> findAllByIsSuperFalse() {
+                return permissions;
+            }
+
+            @Override
+            public List<NostalgiaPermission> findAllByIds(Set<String> permissionIds) {
+                return permissions;
+            }
+
+        }, authorityRegistry);
+    }
+
+    /**
+     * Builds an invalid token service whose ports are mocked, with an index loaded with the given number
+     * of revoked token IDs.
+     */
+    static NostalgiaInvalidTokenServiceImpl invalidTokenService(final int revokedTokenCount) {
+
+        final List<NostalgiaInvalidToken> invalidTokens = IntStream.range(0, revokedTokenCount)
+                .<NostalgiaInvalidToken>mapToObj(index -> NostalgiaInvalidToken.builder()
+                        .id((long) index + 1)
+                        .tokenId(UUID.randomUUID().toString())
+                        .expiresAt(LocalDateTime.now().plusDays(1))
+                        .build())
+                .toList();
+
+        final NostalgiaInvalidTokenReadPort invalidTokenReadPort = Mockito.mock(NostalgiaInvalidTokenReadPort.class);
+        Mockito.when(invalidTokenReadPort.findAll()).thenReturn(invalidTokens);
+
+        final NostalgiaInvalidTokenChangeFeedPort invalidTokenChangeFeedPort = Mockito.mock(NostalgiaInvalidTokenChangeFeedPort.class);
+        Mockito.when(invalidTokenChangeFeedPort.findLatestPosition()).thenReturn((long) revokedTokenCount);
+
+        return new NostalgiaInvalidTokenServiceImpl(
+                Mockito.mock(NostalgiaInvalidTokenSavePort.class),
+                Mockito.mock(NostalgiaInvalidTokenDeletePort.class),
+                invalidTokenChangeFeedPort,
+                new NostalgiaInvalidTokenIndex(100_000, 500, invalidTokenReadPort, invalidTokenChangeFeedPort),
+                new NostalgiaVerifiedTokenCache(0, new SimpleMeterRegistry()),
+                1000
+        );
+    }
+
+    /**
+     * Builds the claims of an access token with all the {@link #PERMISSION_NAMES}.
+     */
+    static Claims claims() {
+        return Jwts.claims()
+                .add(NostalgiaTokenClaims.USER_ID.getValue(), UUID.randomUUID().toString())
+                .add(NostalgiaTokenClaims.USER_FULL_NAME.getValue(), "Nostalgia Benchmark")
+                .add(NostalgiaTokenClaims.USER_EMAIL_ADDRESS.getValue(), "benchmark@nostalgia.org")
+                .add(NostalgiaTokenClaims.USER_PERMISSIONS.getValue(), PERMISSION_NAMES)
+                .build();
+    }
+
+}
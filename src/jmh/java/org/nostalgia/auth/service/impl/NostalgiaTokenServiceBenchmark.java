@@ -0,0 +1,134 @@
+package org.nostalgia.auth.service.impl;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.nostalgia.auth.config.NostalgiaTokenConfigurationParameter;
+import org.nostalgia.auth.model.NostalgiaParsedToken;
+import org.nostalgia.auth.model.enums.NostalgiaConfigurationParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations of the {@link NostalgiaTokenServiceImpl} one by one, and compares the per-request cost of
+ * the bearer token filter before and after collapsing the token parsing.
+ * <p>
+ * {@link #generate(Blackhole)}, {@link #verifyAndValidate()}, {@link #getPayload(Blackhole)} and
+ * {@link #getAuthentication(Blackhole)} measure the single operations of the token service without the verified token cache.
+ * </p>
+ * <p>
+ * {@link #verifyPayloadAndAuthentication(Blackhole)} reproduces the former filter path, which verified the same token
+ * three times, while {@link #verifyAndParse(Blackhole)} verifies and parses it only once.
+ * {@link #verifyAndParseWithCache(Blackhole)} measures a repeated token served from the verified token cache, and
+ * {@link #verifyAndParseCompactPermissions(Blackhole)} a token carrying its permissions as a compact permission set.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NostalgiaTokenServiceBenchmark {
+
+    private NostalgiaTokenServiceImpl tokenService;
+    private NostalgiaTokenServiceImpl cachingTokenService;
+    private NostalgiaTokenServiceImpl compactTokenService;
+    private Claims claims;
+    private String accessToken;
+    private String compactAccessToken;
+
+    @Setup
+    public void setup() {
+        final NostalgiaTokenConfigurationParameter tokenConfiguration = NostalgiaTokenBenchmarkFixture.tokenConfiguration(Map.of());
+        final NostalgiaAuthorityRegistry authorityRegistry = new NostalgiaAuthorityRegistry();
+        final NostalgiaPermissionDictionary permissionDictionary = NostalgiaTokenBenchmarkFixture.permissionDictionary(authorityRegistry);
+
+        this.tokenService = new NostalgiaTokenServiceImpl(
+                tokenConfiguration,
+                new NostalgiaVerifiedTokenCache(0, new SimpleMeterRegistry()),
+                permissionDictionary,
+                authorityRegistry
+        );
+        this.cachingTokenService = new NostalgiaTokenServiceImpl(
+                tokenConfiguration,
+                new NostalgiaVerifiedTokenCache(10_000, new SimpleMeterRegistry()),
+                permissionDictionary,
+                authorityRegistry
+        );
+        this.compactTokenService = new NostalgiaTokenServiceImpl(
+                NostalgiaTokenBenchmarkFixture.tokenConfiguration(Map.of(
+                        NostalgiaConfigurationParameter.AUTH_TOKEN_COMPACT_PERMISSIONS_ENABLED, "true"
+                )),
+                new NostalgiaVerifiedTokenCache(0, new SimpleMeterRegistry()),
+                permissionDictionary,
+                authorityRegistry
+        );
+
+        this.claims = NostalgiaTokenBenchmarkFixture.claims();
+        this.accessToken = tokenService.generate(claims).getAccessToken();
+        this.compactAccessToken = compactTokenService.generate(claims).getAccessToken();
+    }
+
+    @Benchmark
+    public void generate(final Blackhole blackhole) {
+        blackhole.consume(tokenService.generate(claims));
+    }
+
+    @Benchmark
+    public void verifyAndValidate() {
+        tokenService.verifyAndValidate(accessToken);
+    }
+
+    @Benchmark
+    public void getPayload(final Blackhole blackhole) {
+        blackhole.consume(tokenService.getPayload(accessToken));
+    }
+
+    @Benchmark
+    public void getAuthentication(final Blackhole blackhole) {
+        blackhole.consume(tokenService.getAuthentication(accessToken));
+    }
+
+    @Benchmark
+    public void verifyPayloadAndAuthentication(final Blackhole blackhole) {
+        tokenService.verifyAndValidate(accessToken);
+        blackhole.consume(tokenService.getPayload(accessToken).getId());
+        blackhole.consume(tokenService.getAuthentication(accessToken));
+    }
+
+    @Benchmark
+    public void verifyAndParse(final Blackhole blackhole) {
+        final NostalgiaParsedToken parsedToken = tokenService.verifyAndParse(accessToken);
+        blackhole.consume(parsedToken.getId());
+        final UsernamePasswordAuthenticationToken authentication = parsedToken.getAuthentication();
+        blackhole.consume(authentication);
+    }
+
+    @Benchmark
+    public void verifyAndParseWithCache(final Blackhole blackhole) {
+        final NostalgiaParsedToken parsedToken = cachingTokenService.verifyAndParse(accessToken);
+        blackhole.consume(parsedToken.getId());
+        blackhole.consume(parsedToken.getAuthentication());
+    }
+
+    @Benchmark
+    public void verifyAndParseCompactPermissions(final Blackhole blackhole) {
+        final NostalgiaParsedToken parsedToken = compactTokenService.verifyAndParse(compactAccessToken);
+        blackhole.consume(parsedToken.getId());
+        blackhole.consume(parsedToken.getAuthentication());
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.nostalgia.auth.service.impl;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.nostalgia.auth.model.enums.NostalgiaConfigurationParameter;
+import org.nostalgia.auth.model.enums.NostalgiaTokenSignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the token issue and verify throughput of the supported {@link NostalgiaTokenSignatureAlgorithm}s
+ * on the token shape of the application.
+ * <p>
+ * {@link #generate(Blackhole)} issues an access and refresh token pair as on login, while
+ * {@link #verifyAndParse(Blackhole)} verifies an access token with the verified token cache disabled.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NostalgiaTokenSignatureAlgorithmBenchmark {
+
+    @Param({"RS256", "ES256", "ED25519"})
+    private NostalgiaTokenSignatureAlgorithm signatureAlgorithm;
+
+    private NostalgiaTokenServiceImpl tokenService;
+    private Claims claims;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        final NostalgiaAuthorityRegistry authorityRegistry = new NostalgiaAuthorityRegistry();
+        this.tokenService = new NostalgiaTokenServiceImpl(
+                NostalgiaTokenBenchmarkFixture.tokenConfiguration(Map.of(
+                        NostalgiaConfigurationParameter.AUTH_TOKEN_SIGNATURE_ALGORITHM, signatureAlgorithm.name()
+                )),
+                new NostalgiaVerifiedTokenCache(0, new SimpleMeterRegistry()),
+                NostalgiaTokenBenchmarkFixture.permissionDictionary(authorityRegistry),
+                authorityRegistry
+        );
+
+        this.claims = NostalgiaTokenBenchmarkFixture.claims();
+        this.accessToken = tokenService.generate(claims).getAccessToken();
+    }
+
+    @Benchmark
+    public void generate(final Blackhole blackhole) {
+        blackhole.consume(tokenService.generate(claims));
+    }
+
+    @Benchmark
+    public void verifyAndParse(final Blackhole blackhole) {
+        blackhole.consume(tokenService.verifyAndParse(accessToken));
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.nostalgia.auth.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.model.enums.NostalgiaConfigurationParameter;
+import org.nostalgia.auth.model.enums.NostalgiaPasswordEncodingAlgorithm;
+import org.nostalgia.parameter.model.NostalgiaParameter;
+import org.nostalgia.parameter.service.NostalgiaParameterService;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuration class for password hashing properties such as the algorithm and the cost of new password hashes.
+ * <p>
+ * The parameters only apply to the passwords hashed from now on. The stored hashes keep being verified with the
+ * algorithm and cost they are hashed with, and are rehashed with the configured ones on the next successful login.
+ * </p>
+ */
+@Slf4j
+@Getter
+@Configuration
+public class NostalgiaPasswordConfigurationParameter {
+
+    /**
+     * The algorithm of new password hashes.
+     */
+    private final NostalgiaPasswordEncodingAlgorithm encodingAlgorithm;
+    /**
+     * The log2 of the number of rounds of BCrypt hashes.
+     */
+    private final int bcryptStrength;
+    /**
+     * The memory of Argon2 hashes, in kibibytes.
+     */
+    private final int argon2Memory;
+    /**
+     * The number of iterations of Argon2 hashes.
+     */
+    private final int argon2Iterations;
+
+    /**
+     * Constructs a new NostalgiaPasswordConfigurationParameter instance using NostalgiaParameterService to retrieve relevant configuration parameters.
+     *
+     * @param parameterService the NostalgiaParameterService instance to use for parameter retrieval
+     */
+    public NostalgiaPasswordConfigurationParameter(NostalgiaParameterService parameterService) {
+
+        final Map<String, NostalgiaParameter> configurationParameters = parameterService.findAll("AUTH_PASSWORD_");
+
+        this.encodingAlgorithm = NostalgiaPasswordEncodingAlgorithm.valueOf(
+                getDefinition(NostalgiaConfigurationParameter.AUTH_PASSWORD_ENCODING_ALGORITHM, configurationParameters)
+        );
+        this.bcryptStrength = Integer.parseInt(
+                getDefinition(NostalgiaConfigurationParameter.AUTH_PASSWORD_BCRYPT_STRENGTH, configurationParameters)
+        );
+        this.argon2Memory = Integer.parseInt(
+                getDefinition(NostalgiaConfigurationParameter.AUTH_PASSWORD_ARGON2_MEMORY, configurationParameters)
+        );
+        this.argon2Iterations = Integer.parseInt(
+                getDefinition(NostalgiaConfigurationParameter.AUTH_PASSWORD_ARGON2_ITERATIONS, configurationParameters)
+        );
+
+        log.info("Passwords are hashed with {} (bcrypt strength {}, argon2 memory {} KiB and {} iterations)",
+                this.encodingAlgorithm, this.bcryptStrength, this.argon2Memory, this.argon2Iterations);
+    }
+
+    private static String getDefinition(final NostalgiaConfigurationParameter parameter,
+                                        final Map<String, NostalgiaParameter> configurationParameters) {
+        return Optional
+                .ofNullable(NostalgiaParameter.getDefinition(parameter, configurationParameters))
+                .orElse(parameter.getDefaultValue());
+    }
+
+}
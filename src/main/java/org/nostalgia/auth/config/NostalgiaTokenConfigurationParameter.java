@@ -1,93 +1,333 @@
 package org.nostalgia.auth.config;
 
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.nostalgia.auth.model.enums.NostalgiaConfigurationParameter;
+import org.nostalgia.auth.model.enums.NostalgiaTokenSignatureAlgorithm;
+import org.nostalgia.auth.util.NostalgiaKeyConverter;
+import org.nostalgia.auth.util.exception.NostalgiaKeyReadException;
 import org.nostalgia.parameter.model.NostalgiaParameter;
+import org.nostalgia.parameter.model.NostalgiaParameterChangeEvent;
 import org.nostalgia.parameter.service.NostalgiaParameterService;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 
 import java.security.*;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Configuration class for AYS token-related properties such as issuer, token expiration times and cryptographic keys.
+ * <p>
+ * The signing key pair is loaded from the {@link NostalgiaConfigurationParameter#AUTH_TOKEN_PRIVATE_KEY} and
+ * {@link NostalgiaConfigurationParameter#AUTH_TOKEN_PUBLIC_KEY} parameters, so that every node signs and verifies
+ * with the same key. The comma separated {@link NostalgiaConfigurationParameter#AUTH_TOKEN_ADDITIONAL_PUBLIC_KEYS}
+ * parameter holds the public keys which are accepted for verification as well, such as the next key before a rotation
+ * or the previous key until the tokens signed by it expire.
+ * </p>
+ * <p>
+ * The signing keys have to be of the type of the {@link NostalgiaConfigurationParameter#AUTH_TOKEN_SIGNATURE_ALGORITHM}
+ * parameter, while the additional public keys may be of any supported type, so that the algorithm can be changed
+ * with a key rotation as well.
+ * </p>
+ * <p>
+ * The startup fails if the signing keys are not defined, since every node would sign with a key of its own,
+ * unless the {@code dev} profile is active, where an ephemeral key pair is generated. The startup fails as well if
+ * the public key does not verify a probe token signed by the private key.
+ * </p>
+ * <p>
+ * The configuration is exposed as an immutable, versioned {@link Snapshot}, which is replaced atomically whenever
+ * a {@link NostalgiaParameterChangeEvent} reports a change of the token lifetimes or the compact permissions flag,
+ * so that the next issued token picks up the new values without a restart. Readers take the snapshot once
+ * and use it for the whole token, without any locking. The keys and the signature algorithm are carried over
+ * to every new snapshot, since the tokens which are already verified and cached are bound to them,
+ * so their changes apply after a restart.
+ * </p>
  */
 @Slf4j
-@Getter
 @Configuration
 public class NostalgiaTokenConfigurationParameter {
 
     /**
-     * The issuer value to be used in JWTs generated by the application.
+     * The parameters which are applied to a new snapshot when they change.
      */
-    private final String issuer;
+    private static final Set<String> RELOADABLE_PARAMETER_NAMES = Set.of(
+            NostalgiaConfigurationParameter.AUTH_ACCESS_TOKEN_EXPIRE_MINUTE.name(),
+            NostalgiaConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.name(),
+            NostalgiaConfigurationParameter.AUTH_TOKEN_COMPACT_PERMISSIONS_ENABLED.name()
+    );
+
     /**
-     * The number of minutes until access tokens expire.
+     * The parameters whose changes apply after a restart.
      */
-    private final Integer accessTokenExpireMinute;
+    private static final Set<String> KEY_PARAMETER_NAMES = Set.of(
+            NostalgiaConfigurationParameter.AUTH_TOKEN_SIGNATURE_ALGORITHM.name(),
+            NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY.name(),
+            NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY.name(),
+            NostalgiaConfigurationParameter.AUTH_TOKEN_ADDITIONAL_PUBLIC_KEYS.name()
+    );
+
     /**
-     * The number of days until refresh tokens expire.
+     * The profile in which an ephemeral key pair is generated if the signing keys are not defined.
      */
-    private final Integer refreshTokenExpireDay;
+    private static final String DEVELOPMENT_PROFILE = "dev";
+
+    private static final String KEY_PAIR_PROBE_SUBJECT = "key-pair-probe";
+
+    private final NostalgiaParameterService parameterService;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
     /**
-     * The private key used for token signing and verification.
+     * Constructs a new NostalgiaTokenConfiguration instance using NostalgiaParameterService to retrieve relevant configuration parameters.
+     *
+     * @param parameterService the NostalgiaParameterService instance to use for parameter retrieval
+     * @param environment      the {@link Environment} whose active profiles allow an ephemeral key pair
+     * @throws IllegalStateException if the signing keys are not defined outside the {@value #DEVELOPMENT_PROFILE}
+     *                               profile, or they are not a key pair of the signature algorithm
      */
-    private final PrivateKey privateKey;
+    public NostalgiaTokenConfigurationParameter(NostalgiaParameterService parameterService, Environment environment) {
+
+        log.info("Nostalgia Token Configuration is initializing with Nostalgia Parameters...");
+
+        this.parameterService = parameterService;
+
+        final Map<String, NostalgiaParameter> configurationParameters = parameterService.findAll("AUTH_");
+
+        final NostalgiaTokenSignatureAlgorithm signatureAlgorithm = Optional
+                .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_TOKEN_SIGNATURE_ALGORITHM, configurationParameters))
+                .map(NostalgiaTokenSignatureAlgorithm::valueOf)
+                .orElse(NostalgiaTokenSignatureAlgorithm.valueOf(NostalgiaConfigurationParameter.AUTH_TOKEN_SIGNATURE_ALGORITHM.getDefaultValue()));
+
+        final String privateKeyDefinition = Optional
+                .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY, configurationParameters))
+                .orElse(NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY.getDefaultValue());
+        final String publicKeyDefinition = Optional
+                .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY, configurationParameters))
+                .orElse(NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY.getDefaultValue());
+
+        final PrivateKey privateKey;
+        final PublicKey publicKey;
+        if (StringUtils.isNotBlank(privateKeyDefinition) && StringUtils.isNotBlank(publicKeyDefinition)) {
+            privateKey = NostalgiaKeyConverter.convertPrivateKey(privateKeyDefinition);
+            publicKey = NostalgiaKeyConverter.convertPublicKey(publicKeyDefinition);
+        } else if (environment.matchesProfiles(DEVELOPMENT_PROFILE)) {
+            log.warn("{} and {} parameters are not defined, an ephemeral key pair is generated! " +
+                            "Tokens will be rejected by the other nodes and after a restart.",
+                    NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY, NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY);
+            final KeyPair keyPair = signatureAlgorithm.generateKeyPair();
+            privateKey = keyPair.getPrivate();
+            publicKey = keyPair.getPublic();
+        } else {
+            throw new IllegalStateException(NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY + " and " +
+                    NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY + " parameters are not defined!");
+        }
+
+        if (NostalgiaTokenSignatureAlgorithm.of(publicKey) != signatureAlgorithm) {
+            throw new IllegalStateException("Token signing key is not a " + signatureAlgorithm + " key!");
+        }
+
+        verifyKeyPair(signatureAlgorithm, privateKey, publicKey);
+
+        final String keyId = generateKeyId(publicKey);
+
+        final Map<String, PublicKey> publicKeys = new HashMap<>();
+        publicKeys.put(keyId, publicKey);
+
+        final String additionalPublicKeyDefinitions = Optional
+                .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_TOKEN_ADDITIONAL_PUBLIC_KEYS, configurationParameters))
+                .orElse(NostalgiaConfigurationParameter.AUTH_TOKEN_ADDITIONAL_PUBLIC_KEYS.getDefaultValue());
+        Arrays.stream(additionalPublicKeyDefinitions.split(","))
+                .filter(StringUtils::isNotBlank)
+                .map(String::trim)
+                .map(NostalgiaKeyConverter::convertPublicKey)
+                .forEach(additionalPublicKey -> publicKeys.put(generateKeyId(additionalPublicKey), additionalPublicKey));
+
+        final Snapshot.SnapshotBuilder snapshotBuilder = Snapshot.builder()
+                .version(1)
+                .issuer(NostalgiaConfigurationParameter.NOSTALGIA.getDefaultValue())
+                .signatureAlgorithm(signatureAlgorithm)
+                .privateKey(privateKey)
+                .publicKey(publicKey)
+                .keyId(keyId)
+                .publicKeys(Map.copyOf(publicKeys));
+        this.snapshot.set(applyReloadableParameters(snapshotBuilder, configurationParameters).build());
+
+        log.info("Token signing key is {} with {} and {} key(s) are accepted for verification",
+                keyId, signatureAlgorithm, publicKeys.size());
+        log.info("NOSTALGIA token configuration is initialized!");
+    }
+
     /**
-     * The public key used for token verification.
+     * Returns the current snapshot of the token configuration.
+     * The snapshot should be taken once and used for the whole token, so that a concurrent reload never mixes the
+     * values of two snapshots.
+     *
+     * @return the current {@link Snapshot}
      */
-    private final PublicKey publicKey;
+    public Snapshot getSnapshot() {
+        return this.snapshot.get();
+    }
 
     /**
-     * Constructs a new NostalgiaTokenConfiguration instance using NostalgiaParameterService to retrieve relevant configuration parameters.
+     * Replaces the snapshot with one built from the current parameters, if any of the reloadable parameters has changed.
+     * A snapshot with an invalid parameter is rejected, and the current snapshot is kept.
      *
-     * @param parameterService the NostalgiaParameterService instance to use for parameter retrieval
+     * @param event the {@link NostalgiaParameterChangeEvent} with the names of the changed parameters
      */
-    public NostalgiaTokenConfigurationParameter(NostalgiaParameterService parameterService) {
+    @EventListener
+    public synchronized void onParameterChange(final NostalgiaParameterChangeEvent event) {
 
-        log.info("Nostalgia Token Configuration is initializing with Nostalgia Parameters...");
+        event.getNames().stream()
+                .filter(KEY_PARAMETER_NAMES::contains)
+                .forEach(name -> log.warn("{} parameter is changed, it is applied after a restart", name));
+
+        if (event.getNames().stream().noneMatch(RELOADABLE_PARAMETER_NAMES::contains)) {
+            return;
+        }
+
+        final Snapshot currentSnapshot = this.snapshot.get();
+        final Snapshot reloadedSnapshot;
+        try {
+            final Snapshot.SnapshotBuilder snapshotBuilder = currentSnapshot.toBuilder()
+                    .version(currentSnapshot.getVersion() + 1);
+            reloadedSnapshot = applyReloadableParameters(snapshotBuilder, this.parameterService.findAll("AUTH_")).build();
+        } catch (IllegalArgumentException exception) {
+            log.error("Token configuration is not reloaded, it is kept at version {}", currentSnapshot.getVersion(), exception);
+            return;
+        }
 
-        final Set<NostalgiaParameter> configurationParameters = parameterService.findAll("AUTH_");
+        this.snapshot.set(reloadedSnapshot);
+        log.info("Token configuration is reloaded to version {} with {} minutes access and {} days refresh token lifetimes",
+                reloadedSnapshot.getVersion(), reloadedSnapshot.getAccessTokenExpireMinute(), reloadedSnapshot.getRefreshTokenExpireDay());
+    }
 
-        this.issuer = NostalgiaConfigurationParameter.NOSTALGIA.getDefaultValue();
+    private static Snapshot.SnapshotBuilder applyReloadableParameters(final Snapshot.SnapshotBuilder snapshotBuilder,
+                                                                     final Map<String, NostalgiaParameter> configurationParameters) {
 
-        this.accessTokenExpireMinute = Optional
+        final Integer accessTokenExpireMinute = Optional
                 .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_ACCESS_TOKEN_EXPIRE_MINUTE, configurationParameters))
                 .map(Integer::valueOf)
                 .orElse(Integer.valueOf(NostalgiaConfigurationParameter.AUTH_ACCESS_TOKEN_EXPIRE_MINUTE.getDefaultValue()));
 
-        this.refreshTokenExpireDay = Optional
+        final Integer refreshTokenExpireDay = Optional
                 .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY, configurationParameters))
                 .map(Integer::valueOf)
                 .orElse(Integer.valueOf(NostalgiaConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.getDefaultValue()));
 
+        final boolean compactPermissionsEnabled = Optional
+                .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_TOKEN_COMPACT_PERMISSIONS_ENABLED, configurationParameters))
+                .map(Boolean::parseBoolean)
+                .orElse(Boolean.parseBoolean(NostalgiaConfigurationParameter.AUTH_TOKEN_COMPACT_PERMISSIONS_ENABLED.getDefaultValue()));
+
+        return snapshotBuilder
+                .accessTokenExpireMinute(accessTokenExpireMinute)
+                .refreshTokenExpireDay(refreshTokenExpireDay)
+                .compactPermissionsEnabled(compactPermissionsEnabled);
+    }
+
+    /**
+     * Verifies that the given keys are a key pair by signing a probe token with the private key and verifying it
+     * with the public key, so that a mismatch fails the startup instead of every token verification.
+     *
+     * @throws IllegalStateException if the public key does not verify the signatures of the private key
+     */
+    private static void verifyKeyPair(final NostalgiaTokenSignatureAlgorithm signatureAlgorithm,
+                                      final PrivateKey privateKey,
+                                      final PublicKey publicKey) {
+
+        final String probeToken = Jwts.builder()
+                .subject(KEY_PAIR_PROBE_SUBJECT)
+                .signWith(privateKey, signatureAlgorithm.getAlgorithm())
+                .compact();
+        try {
+            Jwts.parser()
+                    .verifyWith(publicKey)
+                    .build()
+                    .parseSignedClaims(probeToken);
+        } catch (JwtException exception) {
+            throw new IllegalStateException(NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY +
+                    " parameter is not the public key of " + NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY + "!", exception);
+        }
+    }
 
-        KeyPair keyPair;
+    /**
+     * Generates the key ID (kid) of the given public key, which is the Base64URL encoded SHA-256 digest of its encoded form.
+     * The key ID is therefore the same on every node for the same key.
+     *
+     * @param publicKey the public key to generate the key ID of
+     * @return the key ID
+     */
+    private static String generateKeyId(final PublicKey publicKey) {
         try {
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(2048);
-            keyPair = keyPairGenerator.generateKeyPair();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new NostalgiaKeyReadException(exception);
         }
+    }
 
-        this.privateKey = keyPair.getPrivate();
-        this.publicKey = keyPair.getPublic();
 
-        /* Core of the code is the below, couldn't figure it out for now. TODO: learn better those structure and modify/solve the problem */
-        /*final String encryptedPrivateKeyPem = Optional
-                .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY, configurationParameters))
-                .orElse(NostalgiaConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY.getDefaultValue());
-        this.privateKey = NostalgiaKeyConverter.convertPrivateKey(encryptedPrivateKeyPem);
+    /**
+     * An immutable snapshot of the token configuration.
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    public static final class Snapshot {
 
-        final String encryptedPublicKeyPem = Optional
-                .ofNullable(NostalgiaParameter.getDefinition(NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY, configurationParameters))
-                .orElse(NostalgiaConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY.getDefaultValue());
-        this.publicKey = NostalgiaKeyConverter.convertPublicKey(encryptedPublicKeyPem);*/
+        /**
+         * The version of the snapshot, which is incremented on every reload.
+         */
+        private final long version;
+        /**
+         * The issuer value to be used in JWTs generated by the application.
+         */
+        private final String issuer;
+        /**
+         * The number of minutes until access tokens expire.
+         */
+        private final Integer accessTokenExpireMinute;
+        /**
+         * The number of days until refresh tokens expire.
+         */
+        private final Integer refreshTokenExpireDay;
+        /**
+         * Whether the permissions are written into access tokens as a compact bitset instead of a list of permission names.
+         */
+        private final boolean compactPermissionsEnabled;
+        /**
+         * The algorithm used for token signing.
+         */
+        private final NostalgiaTokenSignatureAlgorithm signatureAlgorithm;
+        /**
+         * The private key used for token signing and verification.
+         */
+        private final PrivateKey privateKey;
+        /**
+         * The public key used for token verification.
+         */
+        private final PublicKey publicKey;
+        /**
+         * The key ID (kid) of the signing key, written into the header of every generated token.
+         */
+        private final String keyId;
+        /**
+         * The keyring of the public keys accepted for token verification, mapped by their key IDs.
+         * It contains the public key of the signing key and the additional public keys, which makes a key rotation possible
+         * without rejecting the tokens signed by the previous key.
+         */
+        private final Map<String, PublicKey> publicKeys;
 
-        log.info("NOSTALGIA token configuration is initialized!");
     }
 
 }
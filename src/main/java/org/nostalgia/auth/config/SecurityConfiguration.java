@@ -1,10 +1,14 @@
 package org.nostalgia.auth.config;
 
 import lombok.RequiredArgsConstructor;
+import org.nostalgia.auth.model.enums.NostalgiaPasswordEncodingAlgorithm;
 import org.nostalgia.auth.security.NostalgiaAuthenticationEntryPoint;
+import org.nostalgia.auth.security.NostalgiaBCryptPasswordEncoder;
+import org.nostalgia.auth.security.NostalgiaMethodSecurityExpressionHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.authentication.configuration.EnableGlobalAuthentication;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,7 +16,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistryImpl;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -24,6 +30,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.nostalgia.auth.filter.NostalgiaBearerTokenAuthenticationFilter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class provides the security configuration for the application.
@@ -32,7 +39,9 @@ import java.util.List;
  * method which sets up the security configuration for HTTP requests.
  * The {@link SessionAuthenticationStrategy} is defined in the {@link #sessionAuthenticationStrategy()} method which registers
  * the session authentication strategy with the session registry.
- * The {@link PasswordEncoder} is defined in the {@link #passwordEncoder()} method which sets up the password encoder
+ * The actuator endpoints are served under {@code /public/actuator}, where the health and info endpoints are public,
+ * while the metrics endpoint requires the super admin authority.
+ * The {@link PasswordEncoder} is defined in the {@link #passwordEncoder(NostalgiaPasswordConfigurationParameter)} method which sets up the password encoder
  * for the application.
  */
 @Configuration
@@ -74,6 +83,7 @@ class SecurityConfiguration {
                 .cors(customizer -> customizer.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(customizer -> customizer
+                        .requestMatchers(HttpMethod.GET, "/public/actuator/metrics", "/public/actuator/metrics/**").hasAuthority("super")
                         .requestMatchers(HttpMethod.GET, "/public/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/authentication/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/authentication/password/**").permitAll()
@@ -105,14 +115,43 @@ class SecurityConfiguration {
     }
 
     /**
-     * Returns a new instance of the {@link BCryptPasswordEncoder} class that sets up the password encoder
+     * Returns a new instance of the {@link NostalgiaMethodSecurityExpressionHandler} class which answers the authority checks
+     * of the method security expressions from the shared authorities of the verified tokens.
+     *
+     * @return the new instance of {@link MethodSecurityExpressionHandler}
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        return new NostalgiaMethodSecurityExpressionHandler();
+    }
+
+    /**
+     * Returns a new instance of the {@link DelegatingPasswordEncoder} class that sets up the password encoder
      * for the application.
+     * <p>
+     * New passwords are hashed with the algorithm and cost of the {@link NostalgiaPasswordConfigurationParameter}
+     * and prefixed with the ID of the algorithm. The stored hashes are verified with the encoder of their prefix,
+     * while the hashes without a prefix are verified as BCrypt hashes.
+     * </p>
      *
+     * @param passwordConfiguration the password hashing parameters
      * @return the new instance of {@link PasswordEncoder}
      */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(final NostalgiaPasswordConfigurationParameter passwordConfiguration) {
+
+        final Map<String, PasswordEncoder> passwordEncoders = Map.of(
+                NostalgiaPasswordEncodingAlgorithm.BCRYPT.getId(),
+                new NostalgiaBCryptPasswordEncoder(passwordConfiguration.getBcryptStrength()),
+                NostalgiaPasswordEncodingAlgorithm.ARGON2.getId(),
+                new Argon2PasswordEncoder(16, 32, 1, passwordConfiguration.getArgon2Memory(), passwordConfiguration.getArgon2Iterations())
+        );
+
+        final DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                passwordConfiguration.getEncodingAlgorithm().getId(), passwordEncoders
+        );
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 
 }
@@ -4,8 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.UUID;
 import org.nostalgia.auth.model.NostalgiaUser;
+import org.nostalgia.auth.model.NostalgiaUserSummary;
+import org.nostalgia.auth.model.mapper.NostalgiaUserSummaryToUsersResponseMapper;
 import org.nostalgia.auth.model.mapper.NostalgiaUserToResponseMapper;
-import org.nostalgia.auth.model.mapper.NostalgiaUserToUsersResponseMapper;
 import org.nostalgia.auth.model.request.NostalgiaUserCreateRequest;
 import org.nostalgia.auth.model.request.NostalgiaUserUpdateRequest;
 import org.nostalgia.auth.model.response.NostalgiaUserResponse;
@@ -46,7 +47,7 @@ class NostalgiaUserController {
     private final NostalgiaUserUpdateService userUpdateService;
 
 
-    private final NostalgiaUserToUsersResponseMapper userToUsersResponseMapper = NostalgiaUserToUsersResponseMapper.initialize();
+    private final NostalgiaUserSummaryToUsersResponseMapper userSummaryToUsersResponseMapper = NostalgiaUserSummaryToUsersResponseMapper.initialize();
     private final NostalgiaUserToResponseMapper userToResponseMapper = NostalgiaUserToResponseMapper.initialize();
 
 
@@ -64,11 +65,11 @@ class NostalgiaUserController {
     @PreAuthorize("hasAnyAuthority('user:list')")
     public NostalgiaResponse<NostalgiaPageResponse<NostalgiaUsersResponse>> findAll(@RequestBody @Valid NostalgiaUserListRequest request) {
 
-        NostalgiaPage<NostalgiaUser> pageOfUsers = userReadService.findAll(request);
+        NostalgiaPage<NostalgiaUserSummary> pageOfUsers = userReadService.findAll(request);
 
         final NostalgiaPageResponse<NostalgiaUsersResponse> pageOfUsersResponse = NostalgiaPageResponse.<NostalgiaUsersResponse>builder()
                 .of(pageOfUsers)
-                .content(userToUsersResponseMapper.map(pageOfUsers.getContent()))
+                .content(userSummaryToUsersResponseMapper.map(pageOfUsers.getContent()))
                 .build();
 
         return NostalgiaResponse.successOf(pageOfUsersResponse);
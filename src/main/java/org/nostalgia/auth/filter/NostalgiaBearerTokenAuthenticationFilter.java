@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.model.NostalgiaParsedToken;
 import org.nostalgia.auth.model.NostalgiaToken;
 import org.nostalgia.auth.service.NostalgiaInvalidTokenService;
 import org.nostalgia.auth.service.NostalgiaTokenService;
@@ -21,7 +22,7 @@ import java.io.IOException;
  * NostalgiaBearerTokenAuthenticationFilter is a filter that intercepts HTTP requests and processes the Bearer tokens included in the Authorization headers.
  * If the token is valid, the user is authenticated and added to the SecurityContext for the duration of the request.
  * If the token is invalid, a 401 Unauthorized response is returned.
- * <p>The filter uses an instance of NostalgiaTokenService to verify and validate the token and retrieve the user authentication.
+ * <p>The filter uses an instance of NostalgiaTokenService to verify, validate and parse the token only once and retrieve the user authentication.
  */
 @Slf4j
 @Component
@@ -44,13 +45,11 @@ public class NostalgiaBearerTokenAuthenticationFilter extends OncePerRequestFilt
         if (NostalgiaToken.isBearerToken(authorizationHeader)) {
             final String jwt = NostalgiaToken.getJwt(authorizationHeader);
 
-            tokenService.verifyAndValidate(jwt);
+            final NostalgiaParsedToken parsedToken = tokenService.verifyAndParse(jwt);
 
-            final String tokenId = tokenService.getPayload(jwt).getId();
-            invalidTokenService.checkForInvalidityOfToken(tokenId);
+            invalidTokenService.checkForInvalidityOfToken(parsedToken.getId());
 
-            final var authentication = tokenService.getAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            SecurityContextHolder.getContext().setAuthentication(parsedToken.getAuthentication());
         }
 
         filterChain.doFilter(httpServletRequest, httpServletResponse);
@@ -0,0 +1,47 @@
+package org.nostalgia.auth.model;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.io.Serial;
+import java.util.Collection;
+
+/**
+ * An authenticated token of a verified {@link Jwt}, which hands out its shared {@link NostalgiaAuthorities}
+ * instead of a private copy of the granted authorities.
+ */
+public class NostalgiaAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    @Serial
+    private static final long serialVersionUID = -2391877064592465236L;
+
+    private final NostalgiaAuthorities authorities;
+
+    /**
+     * Constructs a new authenticated token.
+     *
+     * @param jwt         the verified JWT, used as the principal
+     * @param authorities the shared authorities of the token
+     */
+    public NostalgiaAuthenticationToken(final Jwt jwt, final NostalgiaAuthorities authorities) {
+        super(jwt, null, AuthorityUtils.NO_AUTHORITIES);
+        this.authorities = authorities;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return this.authorities;
+    }
+
+    /**
+     * Returns the shared authorities of the token.
+     *
+     * @return the {@link NostalgiaAuthorities} of the token
+     */
+    public NostalgiaAuthorities getNostalgiaAuthorities() {
+        return this.authorities;
+    }
+
+}
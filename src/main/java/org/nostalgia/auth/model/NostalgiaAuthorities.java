@@ -0,0 +1,100 @@
+package org.nostalgia.auth.model;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable set of granted authorities built from the permissions of a token.
+ * <p>
+ * Instances are canonicalized, so that all the tokens with the same permissions share one instance. The authority names
+ * are kept in a hash set for constant time {@link #hasAuthority(String)} checks, and whether the set grants the
+ * {@value #SUPER_AUTHORITY} permission is computed once.
+ * </p>
+ */
+public final class NostalgiaAuthorities extends AbstractCollection<GrantedAuthority> {
+
+    private static final String SUPER_AUTHORITY = "super";
+
+    private final List<GrantedAuthority> authorities;
+    private final Set<String> authorityNames;
+    private final boolean superAdmin;
+
+    /**
+     * Constructs a new authority set of the given distinct authorities.
+     *
+     * @param authorities the distinct granted authorities
+     */
+    public NostalgiaAuthorities(final List<GrantedAuthority> authorities) {
+        this.authorities = List.copyOf(authorities);
+        this.authorityNames = Set.copyOf(authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        this.superAdmin = this.authorityNames.contains(SUPER_AUTHORITY);
+    }
+
+    /**
+     * Checks whether the set contains the given authority.
+     *
+     * @param authority the authority name to check
+     * @return {@code true} if the authority is granted, otherwise {@code false}
+     */
+    public boolean hasAuthority(final String authority) {
+        return this.authorityNames.contains(authority);
+    }
+
+    /**
+     * Checks whether the set contains any of the given authorities.
+     *
+     * @param authorities the authority names to check
+     * @return {@code true} if any of the authorities is granted, otherwise {@code false}
+     */
+    public boolean hasAnyAuthority(final String... authorities) {
+        for (String authority : authorities) {
+            if (this.authorityNames.contains(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the set grants the super admin permission.
+     *
+     * @return {@code true} if the "super" permission is granted, otherwise {@code false}
+     */
+    public boolean isSuperAdmin() {
+        return this.superAdmin;
+    }
+
+    /**
+     * Returns the names of the authorities in the set.
+     *
+     * @return the immutable set of authority names
+     */
+    public Set<String> getAuthorityNames() {
+        return this.authorityNames;
+    }
+
+    @Override
+    public Iterator<GrantedAuthority> iterator() {
+        return this.authorities.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.authorities.size();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        return object instanceof NostalgiaAuthorities other && this.authorityNames.equals(other.authorityNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.authorityNames.hashCode();
+    }
+
+}
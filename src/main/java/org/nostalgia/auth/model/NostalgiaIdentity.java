@@ -2,14 +2,16 @@ package org.nostalgia.auth.model;
 
 import org.nostalgia.auth.model.enums.NostalgiaTokenClaims;
 import org.nostalgia.common.model.enums.BeanScope;
-import org.nostalgia.common.util.NostalgiaListUtil;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 
 /**
  * This class provides a representation of the identity of the authenticated user in the AYS service.
@@ -36,13 +38,18 @@ public class NostalgiaIdentity {
 
     /**
      * Checks if the authenticated user has a super admin role.
-     * This is determined by inspecting the user's permissions in the JWT claims.
+     * This is determined by the granted authorities of the authentication, which are built from the
+     * permissions of the token regardless of whether they are encoded as names or as a compact permission set.
+     * The shared {@link NostalgiaAuthorities} of a verified token answer it with a precomputed flag.
      *
      * @return {@code true} if the user has the "super" permission, {@code false} otherwise
      */
     public boolean isSuperAdmin() {
-        final List<String> permissions = NostalgiaListUtil.to(this.getJwt().getClaim(NostalgiaTokenClaims.USER_PERMISSIONS.getValue()), String.class);
-        return permissions.stream().anyMatch(permission -> permission.equals("super"));
+        final Collection<? extends GrantedAuthority> authorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+        if (authorities instanceof NostalgiaAuthorities nostalgiaAuthorities) {
+            return nostalgiaAuthorities.isSuperAdmin();
+        }
+        return authorities.stream().anyMatch(authority -> "super".equals(authority.getAuthority()));
     }
 
     /**
@@ -55,6 +62,25 @@ public class NostalgiaIdentity {
         return this.getJwt().getTokenValue();
     }
 
+    /**
+     * Retrieves the unique identifier (jti) of the access token used for the current session.
+     * The token was already verified by the bearer token filter, so its ID is read from the JWT object without parsing again.
+     *
+     * @return the access token ID as a {@link String}
+     */
+    public String getAccessTokenId() {
+        return this.getJwt().getId();
+    }
+
+    /**
+     * Retrieves the expiration time (exp) of the access token used for the current session.
+     *
+     * @return the access token expiration time as a {@link LocalDateTime} in the system time zone
+     */
+    public LocalDateTime getAccessTokenExpiresAt() {
+        return LocalDateTime.ofInstant(this.getJwt().getExpiresAt(), ZoneId.systemDefault());
+    }
+
     /**
      * Retrieves the JWT token for the authenticated user from the security context.
      * This method is used internally to access user-specific claims from the JWT.
@@ -6,6 +6,8 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.nostalgia.common.model.BaseDomainModel;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents an invalid token entity in the system.
  * This class extends {@link BaseDomainModel} to inherit common properties such as ID and auditing fields.
@@ -19,5 +21,6 @@ public class NostalgiaInvalidToken extends BaseDomainModel {
 
     private Long id;
     private String tokenId;
+    private LocalDateTime expiresAt;
 
 }
@@ -0,0 +1,56 @@
+package org.nostalgia.auth.model;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+
+/**
+ * A representation of a JWT that has already been verified and parsed once.
+ * It carries the header, the claims, the Spring Security {@link Jwt} and the prebuilt authentication of the token,
+ * so that callers can reuse them without parsing and verifying the same token again.
+ */
+@Getter
+@Builder
+public class NostalgiaParsedToken {
+
+    private JwsHeader header;
+    private Claims claims;
+    private Jwt jwt;
+    private UsernamePasswordAuthenticationToken authentication;
+
+    /**
+     * Returns the unique identifier (jti) of the token.
+     *
+     * @return the token ID as a {@link String}
+     */
+    public String getId() {
+        return this.claims.getId();
+    }
+
+    /**
+     * Returns the expiration time (exp) of the token.
+     *
+     * @return the expiration time as a {@link LocalDateTime} in the system time zone
+     */
+    public LocalDateTime getExpiresAt() {
+        return LocalDateTime.ofInstant(this.jwt.getExpiresAt(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Returns the granted authorities of the token.
+     *
+     * @return the granted authorities of the prebuilt authentication
+     */
+    public Collection<GrantedAuthority> getAuthorities() {
+        return this.authentication.getAuthorities();
+    }
+
+}
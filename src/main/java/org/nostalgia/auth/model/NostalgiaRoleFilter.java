@@ -8,6 +8,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.nostalgia.auth.model.entity.NostalgiaRoleEntity;
 import org.nostalgia.auth.model.enums.NostalgiaRoleStatus;
 import org.nostalgia.common.model.NostalgiaFilter;
+import org.nostalgia.common.model.NostalgiaSearchSpecification;
+import org.nostalgia.common.model.enums.NostalgiaSearchMode;
 import org.nostalgia.common.util.validation.Name;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -39,13 +41,18 @@ public class NostalgiaRoleFilter implements NostalgiaFilter {
     private String name;
     private Set<NostalgiaRoleStatus> statuses;
 
+    /**
+     * The matching mode of the name, {@link NostalgiaSearchMode#CONTAINS} if not specified.
+     */
+    private NostalgiaSearchMode searchMode;
+
     /**
      * Converts the current filter criteria into a {@link Specification} for querying roles.
      * <p>
-     * This method builds a {@link Specification} based on the filter properties. It uses
-     * the role name for partial matching (case-insensitive) and filters by the provided
-     * role statuses. If no statuses are specified, this criterion is not included in the
-     * final specification.
+     * This method builds a {@link Specification} based on the filter properties. It matches the role name
+     * against the normalized name search column with the cheapest predicate of the search mode, see
+     * {@link NostalgiaSearchSpecification}, and filters by the provided role statuses. If no statuses are specified,
+     * this criterion is not included in the final specification.
      * </p>
      *
      * @return a {@link Specification} object representing the query criteria based on the current filter.
@@ -56,19 +63,12 @@ public class NostalgiaRoleFilter implements NostalgiaFilter {
         Specification<NostalgiaRoleEntity> specification = Specification.where(null);
 
         if (this.name != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("name")), "%" + this.name.toUpperCase() + "%"));
+            specification = specification.and(NostalgiaSearchSpecification.of("nameSearch", this.name, this.searchMode, true));
         }
 
         if (!CollectionUtils.isEmpty(this.statuses)) {
-
-            Specification<NostalgiaRoleEntity> statusSpecification = this.statuses.stream()
-                    .map(status -> (Specification<NostalgiaRoleEntity>) (root, query, criteriaBuilder) ->
-                            criteriaBuilder.equal(root.get("status"), status))
-                    .reduce(Specification::or)
-                    .orElse(null);
-
-            specification = specification.and(statusSpecification);
+            specification = specification.and((root, query, criteriaBuilder) ->
+                    root.get("status").in(this.statuses));
         }
 
         return specification;
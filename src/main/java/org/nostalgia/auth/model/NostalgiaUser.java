@@ -158,6 +158,7 @@ public class NostalgiaUser extends BaseDomainModel {
                 .map(NostalgiaRole::getPermissions)
                 .flatMap(List::stream)
                 .map(NostalgiaPermission::getName)
+                .distinct()
                 .toList();
     }
 
@@ -8,6 +8,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.nostalgia.auth.model.entity.NostalgiaUserEntity;
 import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
 import org.nostalgia.common.model.NostalgiaFilter;
+import org.nostalgia.common.model.NostalgiaSearchSpecification;
+import org.nostalgia.common.model.enums.NostalgiaSearchMode;
 import org.nostalgia.common.util.validation.Name;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -35,30 +37,26 @@ public class NostalgiaUserFilter implements NostalgiaFilter {
 
     @Name
     @Size(min = 2, max = 100)
-    private String firstName;
-
-    @Name
-    @Size(min = 2, max = 100)
-    private String lastName;
+    private String fullName;
 
     @Size(min = 2, max = 255)
     private String emailAddress;
 
     private Set<NostalgiaUserStatus> statuses;
 
-    @Name
-    @Size(min = 2, max = 100)
-    private String city;
-
+    /**
+     * The matching mode of the full name and the email address, {@link NostalgiaSearchMode#CONTAINS} if not specified.
+     */
+    private NostalgiaSearchMode searchMode;
 
 
     /**
      * Converts the current filter criteria into a {@link Specification} for querying users.
      * <p>
-     * This method builds a {@link Specification} based on the filter properties. It uses
-     * the first name and last name for partial matching (case-insensitive), filters by the provided
-     * user statuses, phone number, city, and institution ID. If no specific filter properties are specified,
-     * those criteria are not included in the final specification.
+     * This method builds a {@link Specification} based on the filter properties. It matches the full name and
+     * the email address against their normalized search columns with the cheapest predicate of the search mode,
+     * see {@link NostalgiaSearchSpecification}, and filters by the provided user statuses. If no specific filter
+     * properties are specified, those criteria are not included in the final specification.
      * </p>
      *
      * @return a {@link Specification} object representing the query criteria based on the current filter.
@@ -69,34 +67,16 @@ public class NostalgiaUserFilter implements NostalgiaFilter {
         Specification<NostalgiaUserEntity> specification = Specification.where(null);
 
         if (!CollectionUtils.isEmpty(this.statuses)) {
-
-            Specification<NostalgiaUserEntity> statusSpecification = this.statuses.stream()
-                    .map(status -> (Specification<NostalgiaUserEntity>) (root, query, criteriaBuilder) ->
-                            criteriaBuilder.equal(root.get("status"), status))
-                    .reduce(Specification::or)
-                    .orElse(null);
-
-            specification = specification.and(statusSpecification);
-        }
-
-        if (this.firstName != null) {
             specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("firstName")), "%" + this.firstName.toUpperCase() + "%"));
+                    root.get("status").in(this.statuses));
         }
 
-        if (this.lastName != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("lastName")), "%" + this.lastName.toUpperCase() + "%"));
+        if (this.fullName != null) {
+            specification = specification.and(NostalgiaSearchSpecification.of("fullNameSearch", this.fullName, this.searchMode, true));
         }
 
         if (this.emailAddress != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("emailAddress")), "%" + this.emailAddress.toUpperCase() + "%"));
-        }
-
-        if (this.city != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("city")), "%" + this.city.toUpperCase() + "%"));
+            specification = specification.and(NostalgiaSearchSpecification.of("emailAddressSearch", this.emailAddress, this.searchMode, false));
         }
 
         return specification;
@@ -104,4 +84,3 @@ public class NostalgiaUserFilter implements NostalgiaFilter {
     }
 
 }
-
@@ -0,0 +1,26 @@
+package org.nostalgia.auth.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat, read-only view of a user for the user lists.
+ * <p>
+ * Unlike {@link NostalgiaUser}, a summary is projected directly from the selected columns of the user table,
+ * without loading the user entity, its password, login attempt or roles.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public class NostalgiaUserSummary {
+
+    private final String id;
+    private final String emailAddress;
+    private final NostalgiaUserStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+}
@@ -14,6 +14,8 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.nostalgia.common.model.entity.BaseEntity;
 
+import java.time.LocalDateTime;
+
 /**
  * AysInvalidTokenEntity is an entity class that represents an invalid token.
  * It extends the BaseEntity class and maps to the "AYS_INVALID_TOKEN" table in the database.
@@ -36,4 +38,7 @@ public class NostalgiaInvalidTokenEntity extends BaseEntity {
     @Column(name = "TOKEN_ID")
     private String tokenId;
 
+    @Column(name = "EXPIRES_AT")
+    private LocalDateTime expiresAt;
+
 }
@@ -10,7 +10,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -18,8 +21,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import org.nostalgia.auth.model.enums.NostalgiaRoleStatus;
 import org.nostalgia.common.model.entity.BaseEntity;
+import org.nostalgia.common.util.NostalgiaSearchUtil;
 
 import java.util.List;
 
@@ -37,6 +42,8 @@ import java.util.List;
 @Table(name = "NOSTALGIA_ROLE")
 public class NostalgiaRoleEntity extends BaseEntity {
 
+    private static final int PERMISSION_BATCH_SIZE = 50;
+
     @Id
     @Column(name = "ID")
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -45,12 +52,24 @@ public class NostalgiaRoleEntity extends BaseEntity {
     @Column(name = "NAME")
     private String name;
 
+    /**
+     * The normalized name for searching, which is maintained from the name.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "NAME_SEARCH")
+    private String nameSearch;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "STATUS")
     @Builder.Default
     private NostalgiaRoleStatus status = NostalgiaRoleStatus.ACTIVE;
 
+    /**
+     * The permissions of the role, which are loaded for up to {@value #PERMISSION_BATCH_SIZE} roles of the
+     * persistence context with one query, instead of one query per role.
+     */
     @ManyToMany
+    @BatchSize(size = PERMISSION_BATCH_SIZE)
     @JoinTable(
             name = "NOSTALGIA_ROLE_PERMISSION_RELATION",
             joinColumns = @JoinColumn(name = "ROLE_ID"),
@@ -58,4 +77,10 @@ public class NostalgiaRoleEntity extends BaseEntity {
     )
     private List<NostalgiaPermissionEntity> permissions;
 
+    @PrePersist
+    @PreUpdate
+    void normalizeSearchColumns() {
+        this.nameSearch = NostalgiaSearchUtil.normalize(this.name);
+    }
+
 }
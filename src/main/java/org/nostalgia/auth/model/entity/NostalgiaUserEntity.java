@@ -11,8 +11,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -21,6 +26,7 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
 import org.nostalgia.common.model.entity.BaseEntity;
+import org.nostalgia.common.util.NostalgiaSearchUtil;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,8 +34,40 @@ import java.util.List;
 /**
  * Represents a user entity in the application, extending from {@link BaseEntity}.
  * This entity class maps to the database table "AYS_USER".
+ * <p>
+ * The password and the login attempt are the inverse sides of one-to-one associations, which Hibernate always loads
+ * right away, so every fetch plan joins them to avoid a separate query for each of them per user.
+ * The fetch plans are selected per use case:
+ * </p>
+ * <ul>
+ *     <li>{@value #DETAIL_GRAPH} loads the user with its password, login attempt and roles</li>
+ *     <li>{@value #LOGIN_GRAPH} loads the user with its password and login attempt only, so the lookup by email address
+ *     stays a single row, and the roles are loaded through the relation table when the claims are built</li>
+ * </ul>
+ * <p>
+ * The permissions of the roles can not be joined as well, since two bags can not be fetched in one query,
+ * so they are loaded with one batched query when they are first read.
+ * </p>
+ * <p>
+ * The user lists do not load the entity at all, see {@link org.nostalgia.auth.model.NostalgiaUserSummary}.
+ * </p>
  */
 @Entity
+@NamedEntityGraph(
+        name = NostalgiaUserEntity.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("password"),
+                @NamedAttributeNode("loginAttempt"),
+                @NamedAttributeNode("roles")
+        }
+)
+@NamedEntityGraph(
+        name = NostalgiaUserEntity.LOGIN_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("password"),
+                @NamedAttributeNode("loginAttempt")
+        }
+)
 @Getter
 @Setter
 @SuperBuilder
@@ -39,6 +77,9 @@ import java.util.List;
 @Table(name = "NOSTALGIA_USER")
 public class NostalgiaUserEntity extends BaseEntity {
 
+    public static final String DETAIL_GRAPH = "NostalgiaUserEntity.detail";
+    public static final String LOGIN_GRAPH = "NostalgiaUserEntity.login";
+
     @Id
     @Column(name = "ID")
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -50,6 +91,20 @@ public class NostalgiaUserEntity extends BaseEntity {
     @Column(name = "FULL_NAME")
     private String fullName;
 
+    /**
+     * The normalized email address for searching, which is maintained from the email address.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "EMAIL_ADDRESS_SEARCH")
+    private String emailAddressSearch;
+
+    /**
+     * The normalized full name for searching, which is maintained from the full name.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "FULL_NAME_SEARCH")
+    private String fullNameSearch;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "STATUS")
     private NostalgiaUserStatus status;
@@ -76,6 +131,13 @@ public class NostalgiaUserEntity extends BaseEntity {
     )
     private List<NostalgiaRoleEntity> roles;
 
+    @PrePersist
+    @PreUpdate
+    void normalizeSearchColumns() {
+        this.emailAddressSearch = NostalgiaSearchUtil.normalize(this.emailAddress);
+        this.fullNameSearch = NostalgiaSearchUtil.normalize(this.fullName);
+    }
+
 
     /**
      * Nested entity representing the password information of the user.
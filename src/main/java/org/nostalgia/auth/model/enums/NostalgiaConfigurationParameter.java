@@ -15,8 +15,15 @@ public enum NostalgiaConfigurationParameter {
 
     AUTH_ACCESS_TOKEN_EXPIRE_MINUTE("120"),
     AUTH_REFRESH_TOKEN_EXPIRE_DAY("1"),
+    AUTH_TOKEN_SIGNATURE_ALGORITHM("RS256"),
+    AUTH_TOKEN_COMPACT_PERMISSIONS_ENABLED("false"),
     AUTH_TOKEN_PRIVATE_KEY(""),
     AUTH_TOKEN_PUBLIC_KEY(""),
+    AUTH_TOKEN_ADDITIONAL_PUBLIC_KEYS(""),
+    AUTH_PASSWORD_ENCODING_ALGORITHM("BCRYPT"),
+    AUTH_PASSWORD_BCRYPT_STRENGTH("10"),
+    AUTH_PASSWORD_ARGON2_MEMORY("16384"),
+    AUTH_PASSWORD_ARGON2_ITERATIONS("2"),
     FE_URL("http://localhost:3000");
 
     private final String defaultValue;
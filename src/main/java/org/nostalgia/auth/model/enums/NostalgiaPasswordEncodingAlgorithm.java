@@ -0,0 +1,29 @@
+package org.nostalgia.auth.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * NostalgiaPasswordEncodingAlgorithm enum represents the supported algorithms to hash passwords with.
+ * The algorithm of new hashes is configured with the {@link NostalgiaConfigurationParameter#AUTH_PASSWORD_ENCODING_ALGORITHM}
+ * parameter, and each stored hash is prefixed with the {@link #getId() ID} of the algorithm it is hashed with,
+ * such as {@code {bcrypt}$2a$10$...}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NostalgiaPasswordEncodingAlgorithm {
+
+    /**
+     * BCrypt, with the cost of {@link NostalgiaConfigurationParameter#AUTH_PASSWORD_BCRYPT_STRENGTH}.
+     */
+    BCRYPT("bcrypt"),
+
+    /**
+     * Argon2id, with the memory and iterations of {@link NostalgiaConfigurationParameter#AUTH_PASSWORD_ARGON2_MEMORY}
+     * and {@link NostalgiaConfigurationParameter#AUTH_PASSWORD_ARGON2_ITERATIONS}.
+     */
+    ARGON2("argon2");
+
+    private final String id;
+
+}
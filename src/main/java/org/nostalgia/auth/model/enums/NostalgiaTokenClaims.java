@@ -17,11 +17,13 @@ public enum NostalgiaTokenClaims {
     USER_TYPE("userType"),
     USER_EMAIL_ADDRESS("userEmailAddress"),
     USER_PERMISSIONS("userPermissions"),
+    USER_PERMISSION_SET("userPermissionSet"),
     USER_FULL_NAME("userFullName"),
     USER_LAST_LOGIN_AT("userLastLoginAt"),
     ISSUED_AT("iat"),
     EXPIRES_AT("exp"),
-    ALGORITHM("alg");
+    ALGORITHM("alg"),
+    KEY_ID("kid");
 
     private final String value;
 
@@ -0,0 +1,73 @@
+package org.nostalgia.auth.model.enums;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.EdECKey;
+import java.security.interfaces.RSAKey;
+
+/**
+ * NostalgiaTokenSignatureAlgorithm enum represents the supported algorithms to sign and verify tokens with.
+ * The algorithm is configured with the {@link NostalgiaConfigurationParameter#AUTH_TOKEN_SIGNATURE_ALGORITHM} parameter
+ * and has to match the type of the configured signing key.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NostalgiaTokenSignatureAlgorithm {
+
+    /**
+     * RSASSA-PKCS1-v1_5 using SHA-256, with an RSA key pair.
+     */
+    RS256(Jwts.SIG.RS256),
+
+    /**
+     * ECDSA using the P-256 curve and SHA-256, with an EC key pair.
+     */
+    ES256(Jwts.SIG.ES256),
+
+    /**
+     * EdDSA using the Ed25519 curve, with an Ed25519 key pair.
+     */
+    ED25519(Jwts.SIG.EdDSA);
+
+    private final SignatureAlgorithm algorithm;
+
+    /**
+     * Generates a new key pair suitable for this algorithm.
+     *
+     * @return the generated key pair
+     */
+    public KeyPair generateKeyPair() {
+        if (this == ED25519) {
+            return Jwks.CRV.Ed25519.keyPair().build();
+        }
+        return this.algorithm.keyPair().build();
+    }
+
+    /**
+     * Returns the algorithm which the given key is used with.
+     *
+     * @param key the signing or verification key
+     * @return the algorithm of the key
+     * @throws IllegalArgumentException if the type of the key is not supported
+     */
+    public static NostalgiaTokenSignatureAlgorithm of(final Key key) {
+        if (key instanceof RSAKey) {
+            return RS256;
+        }
+        if (key instanceof ECKey) {
+            return ES256;
+        }
+        if (key instanceof EdECKey) {
+            return ED25519;
+        }
+        throw new IllegalArgumentException("Unsupported key algorithm: " + key.getAlgorithm());
+    }
+
+}
@@ -18,6 +18,17 @@ import org.nostalgia.common.model.mapper.BaseMapper;
 @Mapper
 public interface NostalgiaRoleToEntityMapper extends BaseMapper<NostalgiaRole, NostalgiaRoleEntity> {
 
+    /**
+     * Maps the given {@link NostalgiaRole} to an {@link NostalgiaRoleEntity}, leaving the search column to the entity,
+     * which maintains it from the name before it is persisted.
+     *
+     * @param role the role to map
+     * @return the mapped role entity
+     */
+    @Override
+    @Mapping(target = "nameSearch", ignore = true)
+    NostalgiaRoleEntity map(NostalgiaRole role);
+
     NostalgiaRoleEntity map(NostalgiaRoleEntity role);
 
     /**
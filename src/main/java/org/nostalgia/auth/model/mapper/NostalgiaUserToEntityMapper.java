@@ -14,10 +14,19 @@ import org.nostalgia.common.model.mapper.BaseMapper;
  * <p>The interface extends the MapStruct interface {@link BaseMapper}, which defines basic mapping methods.
  * The interface adds no additional mapping methods, but simply defines the types to be used in the mapping process.
  */
-@Mapper
+@Mapper(uses = NostalgiaRoleToEntityMapper.class)
 public interface NostalgiaUserToEntityMapper extends BaseMapper<NostalgiaUser, NostalgiaUserEntity> {
 
+    /**
+     * Maps the given {@link NostalgiaUser} to an {@link NostalgiaUserEntity}, leaving the search columns to the entity,
+     * which maintains them from the email address and the full name before it is persisted.
+     *
+     * @param user the user to map
+     * @return the mapped user entity
+     */
     @Override
+    @Mapping(target = "emailAddressSearch", ignore = true)
+    @Mapping(target = "fullNameSearch", ignore = true)
     NostalgiaUserEntity map(NostalgiaUser user);
 
     /**
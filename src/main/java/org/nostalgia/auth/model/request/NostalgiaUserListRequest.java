@@ -36,7 +36,7 @@ public class NostalgiaUserListRequest extends NostalgiaPagingRequest {
      * Validates sorting properties to ensure no unsupported sorting property is used in the request.
      * <p>
      * This method overrides {@link NostalgiaPagingRequest#isOrderPropertyAccepted()} to enforce that only
-     * certain sorting properties, such as "firstName" and "createdAt", are accepted for sorting users.
+     * certain sorting properties, such as "fullName" and "createdAt", are accepted for sorting users.
      * </p>
      *
      * @return {@code true} if the sorting property is accepted, {@code false} otherwise.
@@ -45,7 +45,7 @@ public class NostalgiaUserListRequest extends NostalgiaPagingRequest {
     @AssertTrue
     @Override
     public boolean isOrderPropertyAccepted() {
-        final Set<String> acceptedFilterFields = Set.of("firstName", "createdAt");
+        final Set<String> acceptedFilterFields = Set.of("fullName", "createdAt");
         return this.isPropertyAccepted(acceptedFilterFields);
     }
 }
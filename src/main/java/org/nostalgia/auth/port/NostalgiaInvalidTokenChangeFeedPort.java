@@ -0,0 +1,43 @@
+package org.nostalgia.auth.port;
+
+import org.nostalgia.auth.model.NostalgiaInvalidToken;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A port interface for propagating {@link NostalgiaInvalidToken} revocations between application nodes.
+ * <p>
+ * Every published {@link NostalgiaInvalidToken} gets an increasing position in the feed, exposed as its ID.
+ * Each node keeps the position it has read up to and pulls only the tokens published after it,
+ * so that all nodes converge on the same set of invalid tokens without a shared cache server.
+ * </p>
+ */
+public interface NostalgiaInvalidTokenChangeFeedPort {
+
+    /**
+     * Publishes the given {@link NostalgiaInvalidToken} instances to the other nodes.
+     *
+     * @param invalidTokens The set of {@link NostalgiaInvalidToken} instances that have been invalidated.
+     */
+    void publish(Set<NostalgiaInvalidToken> invalidTokens);
+
+    /**
+     * Retrieves the position of the latest published {@link NostalgiaInvalidToken}.
+     *
+     * @return The latest position in the feed, or zero if nothing has been published yet.
+     */
+    long findLatestPosition();
+
+    /**
+     * Retrieves the {@link NostalgiaInvalidToken} instances published after the given position, ordered by their position.
+     * Implementations may return recently published tokens before or after the given position more than once,
+     * so callers must apply them idempotently.
+     *
+     * @param position The position to read after.
+     * @param limit    The maximum number of {@link NostalgiaInvalidToken} instances after the given position to retrieve.
+     * @return A list of {@link NostalgiaInvalidToken} instances published after the given position.
+     */
+    List<NostalgiaInvalidToken> findAllAfter(long position, int limit);
+
+}
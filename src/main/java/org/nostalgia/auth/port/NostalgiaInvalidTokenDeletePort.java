@@ -5,16 +5,19 @@ import org.nostalgia.auth.model.NostalgiaInvalidToken;
 import java.time.LocalDateTime;
 
 /**
- * A port interface for deleting {@link NostalgiaInvalidToken} based on created timestamp.
- * Defines a method to delete all tokens created before a specified expiration threshold.
+ * A port interface for deleting {@link NostalgiaInvalidToken} based on expiration timestamp.
+ * Defines a method to delete the tokens expiring before a specified expiration threshold in chunks.
  */
 public interface NostalgiaInvalidTokenDeletePort {
 
     /**
-     * Deletes all {@link NostalgiaInvalidToken} created before a specified expiration threshold.
+     * Deletes at most the given number of {@link NostalgiaInvalidToken} expiring before a specified expiration threshold
+     * and commits the deletion.
      *
-     * @param expirationThreshold The timestamp threshold before which all tokens will be deleted.
+     * @param expirationThreshold The timestamp threshold before which expiring tokens will be deleted.
+     * @param chunkSize           The maximum number of tokens to delete.
+     * @return The number of deleted tokens.
      */
-    void deleteAllByCreatedAtBefore(LocalDateTime expirationThreshold);
+    int deleteAllByExpiresAtBefore(LocalDateTime expirationThreshold, int chunkSize);
 
 }
@@ -3,6 +3,7 @@ package org.nostalgia.auth.port;
 
 import org.nostalgia.auth.model.NostalgiaInvalidToken;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,6 +12,13 @@ import java.util.Optional;
  */
 public interface NostalgiaInvalidTokenReadPort {
 
+    /**
+     * Retrieves all {@link NostalgiaInvalidToken} instances.
+     *
+     * @return A list of all {@link NostalgiaInvalidToken} instances.
+     */
+    List<NostalgiaInvalidToken> findAll();
+
     /**
      * Retrieves an {@link NostalgiaInvalidToken} by its token ID.
      *
@@ -1,6 +1,9 @@
 package org.nostalgia.auth.port;
 
 import org.nostalgia.auth.model.NostalgiaRole;
+import org.nostalgia.auth.model.enums.NostalgiaRoleStatus;
+
+import java.util.Set;
 
 /**
  * Port interface for saving operations related to roles.
@@ -15,4 +18,14 @@ public interface NostalgiaRoleSavePort {
      */
     NostalgiaRole save(NostalgiaRole role);
 
+    /**
+     * Transitions the role to the given status, if its current status is one of the given statuses.
+     *
+     * @param id              the ID of the role
+     * @param status          the new status of the role
+     * @param currentStatuses the statuses the role is allowed to be in for the transition
+     * @return {@code true} if the transition is applied, {@code false} if the role does not exist or is in another status
+     */
+    boolean updateStatus(String id, NostalgiaRoleStatus status, Set<NostalgiaRoleStatus> currentStatuses);
+
 }
@@ -0,0 +1,19 @@
+package org.nostalgia.auth.port;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Port interface for updating the login attempts of users without saving the whole user.
+ */
+public interface NostalgiaUserLoginAttemptSavePort {
+
+    /**
+     * Updates the last login times of the given users in a single batch. A last login time is only moved forward,
+     * so an older time never overwrites a newer one, and users without a login attempt are skipped.
+     *
+     * @param lastLoginAtsOfUsers the last login times mapped by the user IDs
+     */
+    void updateAllLastLoginAt(Map<String, LocalDateTime> lastLoginAtsOfUsers);
+
+}
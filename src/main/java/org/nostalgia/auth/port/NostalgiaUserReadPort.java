@@ -3,6 +3,7 @@ package org.nostalgia.auth.port;
 
 import org.nostalgia.auth.model.NostalgiaUser;
 import org.nostalgia.auth.model.NostalgiaUserFilter;
+import org.nostalgia.auth.model.NostalgiaUserSummary;
 import org.nostalgia.common.model.NostalgiaPage;
 import org.nostalgia.common.model.NostalgiaPageable;
 
@@ -14,13 +15,13 @@ import java.util.Optional;
 public interface NostalgiaUserReadPort {
 
     /**
-     * Finds all users with pagination and optional filtering.
+     * Finds the summaries of all users with pagination and optional filtering.
      *
      * @param aysPageable the pagination configuration
      * @param filter      the filter for users
-     * @return a paginated list of users
+     * @return a paginated list of user summaries
      */
-    NostalgiaPage<NostalgiaUser> findAll(NostalgiaPageable aysPageable, NostalgiaUserFilter filter);
+    NostalgiaPage<NostalgiaUserSummary> findAll(NostalgiaPageable aysPageable, NostalgiaUserFilter filter);
 
     /**
      * Retrieves a {@link NostalgiaUser} by its ID.
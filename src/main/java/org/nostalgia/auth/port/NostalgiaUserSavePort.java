@@ -1,6 +1,9 @@
 package org.nostalgia.auth.port;
 
 import org.nostalgia.auth.model.NostalgiaUser;
+import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
+
+import java.util.Set;
 
 /**
  * Port interface for saving and updating user information.
@@ -15,4 +18,14 @@ public interface NostalgiaUserSavePort {
      */
     NostalgiaUser save(NostalgiaUser user);
 
+    /**
+     * Transitions the user to the given status, if its current status is one of the given statuses.
+     *
+     * @param id              the ID of the user
+     * @param status          the new status of the user
+     * @param currentStatuses the statuses the user is allowed to be in for the transition
+     * @return {@code true} if the transition is applied, {@code false} if the user does not exist or is in another status
+     */
+    boolean updateStatus(String id, NostalgiaUserStatus status, Set<NostalgiaUserStatus> currentStatuses);
+
 }
@@ -10,6 +10,7 @@ import org.nostalgia.auth.port.NostalgiaInvalidTokenReadPort;
 import org.nostalgia.auth.port.NostalgiaInvalidTokenSavePort;
 import org.nostalgia.auth.repository.NostalgiaInvalidTokenRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -33,6 +34,17 @@ class NostalgiaInvalidTokenAdapter implements NostalgiaInvalidTokenReadPort, Nos
     private final NostalgiaInvalidTokenToEntityMapper invalidTokenToEntityMapper = NostalgiaInvalidTokenToEntityMapper.initialize();
 
 
+    /**
+     * Retrieves all {@link NostalgiaInvalidToken} entities from the database.
+     *
+     * @return A list of all {@link NostalgiaInvalidToken} entities.
+     */
+    @Override
+    public List<NostalgiaInvalidToken> findAll() {
+        final List<NostalgiaInvalidTokenEntity> invalidTokenEntities = invalidTokenRepository.findAll();
+        return invalidTokenEntityToDomainMapper.map(invalidTokenEntities);
+    }
+
     /**
      * Retrieves an {@link NostalgiaInvalidToken} by its token ID.
      *
@@ -58,14 +70,17 @@ class NostalgiaInvalidTokenAdapter implements NostalgiaInvalidTokenReadPort, Nos
     }
 
     /**
-     * Deletes all {@link NostalgiaInvalidToken} entities from the database that were created before the specified expiration threshold.
+     * Deletes at most the given number of {@link NostalgiaInvalidToken} entities from the database that expire before
+     * the specified expiration threshold, with a single bulk statement in its own transaction.
      *
-     * @param expirationThreshold The timestamp threshold before which {@link NostalgiaInvalidToken} entities will be deleted.
+     * @param expirationThreshold The timestamp threshold before which expiring {@link NostalgiaInvalidToken} entities will be deleted.
+     * @param chunkSize           The maximum number of {@link NostalgiaInvalidToken} entities to delete.
+     * @return The number of deleted {@link NostalgiaInvalidToken} entities.
      */
     @Override
-    @Transactional
-    public void deleteAllByCreatedAtBefore(LocalDateTime expirationThreshold) {
-        invalidTokenRepository.deleteAllByCreatedAtBefore(expirationThreshold);
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteAllByExpiresAtBefore(final LocalDateTime expirationThreshold, final int chunkSize) {
+        return invalidTokenRepository.deleteAllByExpiresAtBefore(expirationThreshold, chunkSize);
     }
 
 }
@@ -0,0 +1,95 @@
+package org.nostalgia.auth.port.impl;
+
+import org.nostalgia.auth.model.NostalgiaInvalidToken;
+import org.nostalgia.auth.model.entity.NostalgiaInvalidTokenEntity;
+import org.nostalgia.auth.model.mapper.NostalgiaInvalidTokenEntityToDomainMapper;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenChangeFeedPort;
+import org.nostalgia.auth.repository.NostalgiaInvalidTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adapter class implementing {@link NostalgiaInvalidTokenChangeFeedPort} by polling the invalid token table.
+ * <p>
+ * The table itself is the feed: the auto-incremented ID of each {@link NostalgiaInvalidTokenEntity} is its position,
+ * so publishing is already done by saving the invalid tokens, and reading the feed is an incremental query over the IDs
+ * above the caller's high-water mark.
+ * </p>
+ * <p>
+ * Since auto-incremented IDs may become visible out of order when concurrent transactions commit, the rows created
+ * within the settle window are read again on each poll, so that a row with a lower ID committed late is not skipped.
+ * Only the latest rows of the window are read again, as many as the forward read, so that a burst of revocations
+ * does not turn each poll into a scan of the whole window. A row committed late is one of the few transactions in flight,
+ * so it is among the latest rows below the high-water mark.
+ * </p>
+ */
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "nostalgia.token.revocation-feed.type", havingValue = "database", matchIfMissing = true)
+class NostalgiaInvalidTokenChangeFeedAdapter implements NostalgiaInvalidTokenChangeFeedPort {
+
+    private final NostalgiaInvalidTokenRepository invalidTokenRepository;
+
+    private final Duration settleWindow;
+
+
+    private final NostalgiaInvalidTokenEntityToDomainMapper invalidTokenEntityToDomainMapper = NostalgiaInvalidTokenEntityToDomainMapper.initialize();
+
+
+    NostalgiaInvalidTokenChangeFeedAdapter(final NostalgiaInvalidTokenRepository invalidTokenRepository,
+                                           @Value("${nostalgia.token.revocation-feed.settle-window:30s}") final Duration settleWindow) {
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.settleWindow = settleWindow;
+    }
+
+
+    /**
+     * Does nothing, since the invalid tokens are already visible to the other nodes once they are saved.
+     *
+     * @param invalidTokens The set of {@link NostalgiaInvalidToken} instances that have been invalidated.
+     */
+    @Override
+    public void publish(final Set<NostalgiaInvalidToken> invalidTokens) {
+        // The saved rows of the invalid token table are the feed itself.
+    }
+
+    /**
+     * Retrieves the highest ID of the invalid token table.
+     *
+     * @return The highest ID, or zero if the table is empty.
+     */
+    @Override
+    public long findLatestPosition() {
+        return invalidTokenRepository.findMaxId().orElse(0L);
+    }
+
+    /**
+     * Retrieves the invalid tokens whose ID is greater than the given position, preceded by the latest already read ones
+     * which were created within the settle window.
+     *
+     * @param position The ID to read after.
+     * @param limit    The maximum number of {@link NostalgiaInvalidToken} instances to retrieve.
+     * @return A list of {@link NostalgiaInvalidToken} instances published after the given position.
+     */
+    @Override
+    public List<NostalgiaInvalidToken> findAllAfter(final long position, final int limit) {
+        final LocalDateTime settleThreshold = LocalDateTime.now().minus(settleWindow);
+        final List<NostalgiaInvalidTokenEntity> invalidTokenEntities = new ArrayList<>(
+                invalidTokenRepository.findAllByIdLessThanEqualAndCreatedAtAfterOrderByIdDesc(position, settleThreshold, Limit.of(limit))
+        );
+        Collections.reverse(invalidTokenEntities);
+        invalidTokenEntities.addAll(invalidTokenRepository.findAllByIdGreaterThanOrderByIdAsc(position, Limit.of(limit)));
+        return invalidTokenEntityToDomainMapper.map(invalidTokenEntities);
+    }
+
+}
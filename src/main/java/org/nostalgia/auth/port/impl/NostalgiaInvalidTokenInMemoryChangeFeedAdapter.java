@@ -0,0 +1,91 @@
+package org.nostalgia.auth.port.impl;
+
+import org.nostalgia.auth.model.NostalgiaInvalidToken;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenChangeFeedPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Adapter class implementing {@link NostalgiaInvalidTokenChangeFeedPort} with a log kept in the JVM.
+ * <p>
+ * The log is shared by every instance in the same JVM, so that several application contexts started by a test
+ * behave like separate nodes reading the same feed. The position of each published token is its sequence number
+ * in the log, starting from one.
+ * </p>
+ * <p>
+ * The expired tokens are removed from the log on each publish, since an expired token is rejected on its own
+ * and its revocation no longer needs to reach the other nodes. The positions of the remaining tokens do not change.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "nostalgia.token.revocation-feed.type", havingValue = "in-memory")
+class NostalgiaInvalidTokenInMemoryChangeFeedAdapter implements NostalgiaInvalidTokenChangeFeedPort {
+
+    private static final NavigableMap<Long, NostalgiaInvalidToken> PUBLISHED_INVALID_TOKENS = new TreeMap<>();
+
+    private static long latestPosition;
+
+
+    /**
+     * Appends the given {@link NostalgiaInvalidToken} instances to the shared log, and removes the expired ones from it.
+     *
+     * @param invalidTokens The set of {@link NostalgiaInvalidToken} instances that have been invalidated.
+     */
+    @Override
+    public void publish(final Set<NostalgiaInvalidToken> invalidTokens) {
+        final LocalDateTime now = LocalDateTime.now();
+        synchronized (PUBLISHED_INVALID_TOKENS) {
+            PUBLISHED_INVALID_TOKENS.values().removeIf(invalidToken -> isExpired(invalidToken, now));
+
+            for (NostalgiaInvalidToken invalidToken : invalidTokens) {
+                latestPosition++;
+                PUBLISHED_INVALID_TOKENS.put(latestPosition, NostalgiaInvalidToken.builder()
+                        .id(latestPosition)
+                        .tokenId(invalidToken.getTokenId())
+                        .expiresAt(invalidToken.getExpiresAt())
+                        .createdAt(Optional.ofNullable(invalidToken.getCreatedAt()).orElse(now))
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Retrieves the position of the latest token appended to the shared log.
+     *
+     * @return The position of the latest published {@link NostalgiaInvalidToken}.
+     */
+    @Override
+    public long findLatestPosition() {
+        synchronized (PUBLISHED_INVALID_TOKENS) {
+            return latestPosition;
+        }
+    }
+
+    /**
+     * Retrieves the {@link NostalgiaInvalidToken} instances appended to the shared log after the given position.
+     *
+     * @param position The position to read after.
+     * @param limit    The maximum number of {@link NostalgiaInvalidToken} instances to retrieve.
+     * @return A list of {@link NostalgiaInvalidToken} instances published after the given position.
+     */
+    @Override
+    public List<NostalgiaInvalidToken> findAllAfter(final long position, final int limit) {
+        synchronized (PUBLISHED_INVALID_TOKENS) {
+            return PUBLISHED_INVALID_TOKENS.tailMap(position, false).values().stream()
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    private static boolean isExpired(final NostalgiaInvalidToken invalidToken, final LocalDateTime now) {
+        return invalidToken.getExpiresAt() != null && invalidToken.getExpiresAt().isBefore(now);
+    }
+
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.nostalgia.auth.model.NostalgiaRole;
 import org.nostalgia.auth.model.NostalgiaRoleFilter;
 import org.nostalgia.auth.model.entity.NostalgiaRoleEntity;
+import org.nostalgia.auth.model.enums.NostalgiaRoleStatus;
 import org.nostalgia.auth.model.mapper.NostalgiaRoleEntityToDomainMapper;
 import org.nostalgia.auth.model.mapper.NostalgiaRoleToEntityMapper;
 import org.nostalgia.auth.port.NostalgiaRoleReadPort;
@@ -11,12 +12,18 @@ import org.nostalgia.auth.port.NostalgiaRoleSavePort;
 import org.nostalgia.auth.repository.NostalgiaRoleRepository;
 import org.nostalgia.common.model.NostalgiaPage;
 import org.nostalgia.common.model.NostalgiaPageable;
+import org.nostalgia.common.model.entity.BaseEntity;
+import org.nostalgia.common.service.NostalgiaCountCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -32,6 +39,7 @@ import java.util.Set;
 class NostalgiaRoleAdapter implements NostalgiaRoleReadPort, NostalgiaRoleSavePort {
 
     private final NostalgiaRoleRepository roleRepository;
+    private final NostalgiaCountCache countCache;
 
 
     private final NostalgiaRoleToEntityMapper roleToEntityMapper = NostalgiaRoleToEntityMapper.initialize();
@@ -42,7 +50,9 @@ class NostalgiaRoleAdapter implements NostalgiaRoleReadPort, NostalgiaRoleSavePo
      * Finds all roles with pagination and optional filtering.
      * <p>
      * This method uses the provided {@link NostalgiaPageable} for pagination and {@link NostalgiaRoleFilter} for filtering.
-     * It returns a paginated list of {@link NostalgiaRole} domain models.
+     * It returns a paginated list of {@link NostalgiaRole} domain models, whose totals are served from the
+     * {@link NostalgiaCountCache}, and are not counted at all if the pageable opts out of them. In the keyset mode of the pageable, the page
+     * continues after its cursor and has the cursor of the next page instead of the totals.
      * </p>
      *
      * @param NostalgiaPageable the pagination configuration
@@ -52,13 +62,34 @@ class NostalgiaRoleAdapter implements NostalgiaRoleReadPort, NostalgiaRoleSavePo
     @Override
     public NostalgiaPage<NostalgiaRole> findAll(final NostalgiaPageable NostalgiaPageable, final NostalgiaRoleFilter filter) {
 
+        final Specification<NostalgiaRoleEntity> specification = filter.toSpecification();
+
+        if (NostalgiaPageable.isKeyset()) {
+
+            final Sort sort = NostalgiaPageable.toKeysetSort();
+            final List<NostalgiaRoleEntity> roleEntities = roleRepository.findBy(
+                    specification.and(NostalgiaPageable.toKeysetSpecification()),
+                    query -> query.sortBy(sort).limit(NostalgiaPageable.getPageSize() + 1).all()
+            );
+
+            return NostalgiaPage.of(filter, NostalgiaPageable, roleEntities, roleEntityToDomainMapper::map);
+        }
+
         final Pageable pageable = NostalgiaPageable.toPageable();
 
-        final Specification<NostalgiaRoleEntity> specification = filter.toSpecification();
+        final Slice<NostalgiaRoleEntity> roleEntitiesSlice = roleRepository.findAllSlice(specification, pageable);
 
-        final Page<NostalgiaRoleEntity> roleEntitiesPage = roleRepository.findAll(specification, pageable);
+        final List<NostalgiaRole> roles = roleEntityToDomainMapper.map(roleEntitiesSlice.getContent());
 
-        final List<NostalgiaRole> roles = roleEntityToDomainMapper.map(roleEntitiesPage.getContent());
+        if (!NostalgiaPageable.isTotalsIncluded()) {
+            return NostalgiaPage.of(filter, roleEntitiesSlice, roles);
+        }
+
+        final Page<NostalgiaRoleEntity> roleEntitiesPage = PageableExecutionUtils.getPage(
+                roleEntitiesSlice.getContent(),
+                pageable,
+                () -> countCache.get(NostalgiaRoleEntity.class, filter, () -> roleRepository.count(specification))
+        );
 
         return NostalgiaPage.of(filter, roleEntitiesPage, roles);
     }
@@ -127,7 +158,28 @@ class NostalgiaRoleAdapter implements NostalgiaRoleReadPort, NostalgiaRoleSavePo
     public NostalgiaRole save(final NostalgiaRole role) {
         final NostalgiaRoleEntity roleEntity = roleToEntityMapper.map(role);
         roleRepository.save(roleEntity);
+        countCache.invalidate(NostalgiaRoleEntity.class);
         return roleEntityToDomainMapper.map(roleEntity);
     }
 
+
+    /**
+     * Transitions the {@link NostalgiaRole} to the given status with a single conditional update,
+     * without loading and saving the whole role.
+     *
+     * @param id              the ID of the role
+     * @param status          the new status of the role
+     * @param currentStatuses the statuses the role is allowed to be in for the transition
+     * @return {@code true} if the transition is applied, {@code false} if the role does not exist or is in another status
+     */
+    @Override
+    @Transactional
+    public boolean updateStatus(final String id, final NostalgiaRoleStatus status, final Set<NostalgiaRoleStatus> currentStatuses) {
+        final boolean isUpdated = roleRepository.updateStatus(id, status, currentStatuses, BaseEntity.resolveCurrentUser(), LocalDateTime.now()) > 0;
+        if (isUpdated) {
+            countCache.invalidate(NostalgiaRoleEntity.class);
+        }
+        return isUpdated;
+    }
+
 }
@@ -3,7 +3,9 @@ package org.nostalgia.auth.port.impl;
 import lombok.RequiredArgsConstructor;
 import org.nostalgia.auth.model.NostalgiaUser;
 import org.nostalgia.auth.model.NostalgiaUserFilter;
+import org.nostalgia.auth.model.NostalgiaUserSummary;
 import org.nostalgia.auth.model.entity.NostalgiaUserEntity;
+import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
 import org.nostalgia.auth.model.mapper.NostalgiaUserEntityToDomainMapper;
 import org.nostalgia.auth.model.mapper.NostalgiaUserToEntityMapper;
 import org.nostalgia.auth.port.NostalgiaUserReadPort;
@@ -11,14 +13,21 @@ import org.nostalgia.auth.port.NostalgiaUserSavePort;
 import org.nostalgia.auth.repository.NostalgiaUserRepository;
 import org.nostalgia.common.model.NostalgiaPage;
 import org.nostalgia.common.model.NostalgiaPageable;
+import org.nostalgia.common.model.entity.BaseEntity;
+import org.nostalgia.common.service.NostalgiaCountCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Adapter class implementing both {@link NostalgiaUserReadPort} and {@link NostalgiaUserSavePort} interfaces.
@@ -31,6 +40,7 @@ import java.util.Optional;
 class NostalgiaUserAdapter implements NostalgiaUserReadPort, NostalgiaUserSavePort {
 
     private final NostalgiaUserRepository userRepository;
+    private final NostalgiaCountCache countCache;
 
 
     private final NostalgiaUserToEntityMapper userToEntityMapper = NostalgiaUserToEntityMapper.initialize();
@@ -41,25 +51,47 @@ class NostalgiaUserAdapter implements NostalgiaUserReadPort, NostalgiaUserSavePo
      * Finds all users with pagination and optional filtering.
      * <p>
      * This method uses the provided {@link NostalgiaPageable} for pagination and {@link NostalgiaUserFilter} for filtering.
-     * It returns a paginated list of {@link NostalgiaUser} domain models.
+     * It returns a paginated list of {@link NostalgiaUserSummary} projections, which are selected directly from the user
+     * table without loading the user entities. The totals are served from the {@link NostalgiaCountCache}, and are not
+     * counted at all if the pageable opts out of them. In the keyset mode of the pageable, the page continues after its cursor
+     * and has the cursor of the next page instead of the totals.
      * </p>
      *
      * @param NostalgiaPageable the pagination configuration
      * @param filter      the filter for users
-     * @return a paginated list of users
+     * @return a paginated list of user summaries
      */
     @Override
-    public NostalgiaPage<NostalgiaUser> findAll(NostalgiaPageable NostalgiaPageable, NostalgiaUserFilter filter) {
+    public NostalgiaPage<NostalgiaUserSummary> findAll(NostalgiaPageable NostalgiaPageable, NostalgiaUserFilter filter) {
+
+        final Specification<NostalgiaUserEntity> specification = filter.toSpecification();
+
+        if (NostalgiaPageable.isKeyset()) {
+
+            final List<NostalgiaUserSummary> userSummaries = userRepository.findAllSummaries(
+                    specification.and(NostalgiaPageable.toKeysetSpecification()),
+                    NostalgiaPageable.toKeysetSort(),
+                    NostalgiaPageable.getPageSize() + 1
+            );
+
+            return NostalgiaPage.of(filter, NostalgiaPageable, userSummaries, Function.identity());
+        }
 
         final Pageable pageable = NostalgiaPageable.toPageable();
 
-        final Specification<NostalgiaUserEntity> specification = filter.toSpecification();
+        final Slice<NostalgiaUserSummary> userSummariesSlice = userRepository.findAllSummaries(specification, pageable);
 
-        final Page<NostalgiaUserEntity> userEntitysPage = userRepository.findAll(specification, pageable);
+        if (!NostalgiaPageable.isTotalsIncluded()) {
+            return NostalgiaPage.of(filter, userSummariesSlice, userSummariesSlice.getContent());
+        }
 
-        final List<NostalgiaUser> users = userEntityToDomainMapper.map(userEntitysPage.getContent());
+        final Page<NostalgiaUserSummary> userSummariesPage = PageableExecutionUtils.getPage(
+                userSummariesSlice.getContent(),
+                pageable,
+                () -> countCache.get(NostalgiaUserEntity.class, filter, () -> userRepository.count(specification))
+        );
 
-        return NostalgiaPage.of(filter, userEntitysPage, users);
+        return NostalgiaPage.of(filter, userSummariesPage, userSummariesPage.getContent());
     }
 
 
@@ -134,7 +166,28 @@ class NostalgiaUserAdapter implements NostalgiaUserReadPort, NostalgiaUserSavePo
         }
 
         final NostalgiaUserEntity savedUserEntity = userRepository.save(userEntity);
+        countCache.invalidate(NostalgiaUserEntity.class);
         return userEntityToDomainMapper.map(savedUserEntity);
     }
 
+
+    /**
+     * Transitions the {@link NostalgiaUser} to the given status with a single conditional update,
+     * without loading and saving the whole user.
+     *
+     * @param id              the ID of the user
+     * @param status          the new status of the user
+     * @param currentStatuses the statuses the user is allowed to be in for the transition
+     * @return {@code true} if the transition is applied, {@code false} if the user does not exist or is in another status
+     */
+    @Override
+    @Transactional
+    public boolean updateStatus(final String id, final NostalgiaUserStatus status, final Set<NostalgiaUserStatus> currentStatuses) {
+        final boolean isUpdated = userRepository.updateStatus(id, status, currentStatuses, BaseEntity.resolveCurrentUser(), LocalDateTime.now()) > 0;
+        if (isUpdated) {
+            countCache.invalidate(NostalgiaUserEntity.class);
+        }
+        return isUpdated;
+    }
+
 }
@@ -0,0 +1,53 @@
+package org.nostalgia.auth.port.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.nostalgia.auth.port.NostalgiaUserLoginAttemptSavePort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapter class implementing {@link NostalgiaUserLoginAttemptSavePort} with batched JDBC updates,
+ * which update the login attempt rows in place instead of merging the whole user aggregate.
+ */
+@Component
+@RequiredArgsConstructor
+class NostalgiaUserLoginAttemptAdapter implements NostalgiaUserLoginAttemptSavePort {
+
+    private static final String UPDATED_USER = "Nostalgia";
+
+    private static final String UPDATE_LAST_LOGIN_AT_QUERY = """
+            UPDATE NOSTALGIA_USER_LOGIN_ATTEMPT
+            SET LAST_LOGIN_AT = ?, UPDATED_USER = ?, UPDATED_AT = ?
+            WHERE USER_ID = ? AND (LAST_LOGIN_AT IS NULL OR LAST_LOGIN_AT < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * Updates the last login times of the given users with one batched {@code UPDATE} statement.
+     *
+     * @param lastLoginAtsOfUsers the last login times mapped by the user IDs
+     */
+    @Override
+    @Transactional
+    public void updateAllLastLoginAt(final Map<String, LocalDateTime> lastLoginAtsOfUsers) {
+
+        final Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        final List<Object[]> parameters = lastLoginAtsOfUsers.entrySet().stream()
+                .map(lastLoginAtOfUser -> {
+                    final Timestamp lastLoginAt = Timestamp.valueOf(lastLoginAtOfUser.getValue());
+                    return new Object[]{lastLoginAt, UPDATED_USER, updatedAt, lastLoginAtOfUser.getKey(), lastLoginAt};
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_AT_QUERY, parameters);
+    }
+
+}
@@ -1,9 +1,14 @@
 package org.nostalgia.auth.repository;
 
 import org.nostalgia.auth.model.entity.NostalgiaInvalidTokenEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,10 +25,43 @@ public interface NostalgiaInvalidTokenRepository extends JpaRepository<Nostalgia
     Optional<NostalgiaInvalidTokenEntity> findByTokenId(String tokenId);
 
     /**
-     * Finds all invalid token entities that were created before the specified date.
+     * Deletes at most the specified number of invalid token entities that expire before the specified date,
+     * with a single bulk statement which does not load the entities into the persistence context.
      *
-     * @param createdAt the date to search for
+     * @param expiresAt the date to search for
+     * @param limit     the maximum number of invalid token entities to delete
+     * @return the number of deleted invalid token entities
      */
-    void deleteAllByCreatedAtBefore(LocalDateTime createdAt);
+    @Modifying
+    @Query(value = "DELETE FROM NOSTALGIA_INVALID_TOKEN WHERE EXPIRES_AT < :expiresAt LIMIT :limit", nativeQuery = true)
+    int deleteAllByExpiresAtBefore(@Param("expiresAt") LocalDateTime expiresAt, @Param("limit") int limit);
+
+    /**
+     * Finds the highest ID of the invalid token entities.
+     *
+     * @return an Optional containing the highest ID, or an empty Optional if there is no invalid token entity
+     */
+    @Query("SELECT MAX(invalidToken.id) FROM NostalgiaInvalidTokenEntity invalidToken")
+    Optional<Long> findMaxId();
+
+    /**
+     * Finds the invalid token entities whose ID is greater than the specified ID, ordered by their ID.
+     *
+     * @param id    the ID to search after
+     * @param limit the maximum number of invalid token entities to return
+     * @return a list of the found invalid token entities
+     */
+    List<NostalgiaInvalidTokenEntity> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Finds the invalid token entities whose ID is less than or equal to the specified ID and which were created after the specified date,
+     * ordered by their ID from the highest.
+     *
+     * @param id        the highest ID to search for
+     * @param createdAt the date to search after
+     * @param limit     the maximum number of invalid token entities to return
+     * @return a list of the found invalid token entities
+     */
+    List<NostalgiaInvalidTokenEntity> findAllByIdLessThanEqualAndCreatedAtAfterOrderByIdDesc(Long id, LocalDateTime createdAt, Limit limit);
 
 }
@@ -1,11 +1,16 @@
 package org.nostalgia.auth.repository;
 
 import org.nostalgia.auth.model.entity.NostalgiaRoleEntity;
+import org.nostalgia.auth.model.enums.NostalgiaRoleStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link NostalgiaRoleEntity} entities.
@@ -16,8 +21,9 @@ import java.util.Optional;
  *
  * @see JpaRepository
  * @see JpaSpecificationExecutor
+ * @see NostalgiaRoleSliceRepository
  */
-public interface NostalgiaRoleRepository extends JpaRepository<NostalgiaRoleEntity, String>, JpaSpecificationExecutor<NostalgiaRoleEntity> {
+public interface NostalgiaRoleRepository extends JpaRepository<NostalgiaRoleEntity, String>, JpaSpecificationExecutor<NostalgiaRoleEntity>, NostalgiaRoleSliceRepository {
 
     /**
      * Finds a {@link NostalgiaRoleEntity} by the given role name.
@@ -36,4 +42,23 @@ public interface NostalgiaRoleRepository extends JpaRepository<NostalgiaRoleEnti
     @Query("SELECT COUNT(user) > 0 FROM NostalgiaUserEntity user JOIN user.roles role WHERE role.id = :id")
     boolean isRoleAssignedToUser(String id);
 
+    /**
+     * Updates the status of the role with the given ID in a single statement, if its current status is one of the given statuses.
+     *
+     * @param id              the ID of the role
+     * @param status          the new status of the role
+     * @param currentStatuses the statuses the role is allowed to be in for the transition
+     * @param updatedUser     the auditing user of the update
+     * @param updatedAt       the time of the update
+     * @return the number of updated roles, which is {@code 0} if the role does not exist or is in another status
+     */
+    @Modifying
+    @Query("UPDATE NostalgiaRoleEntity role SET role.status = :status, role.updatedUser = :updatedUser, role.updatedAt = :updatedAt " +
+            "WHERE role.id = :id AND role.status IN :currentStatuses")
+    int updateStatus(@Param("id") String id,
+                     @Param("status") NostalgiaRoleStatus status,
+                     @Param("currentStatuses") Set<NostalgiaRoleStatus> currentStatuses,
+                     @Param("updatedUser") String updatedUser,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
 }
@@ -0,0 +1,24 @@
+package org.nostalgia.auth.repository;
+
+import org.nostalgia.auth.model.entity.NostalgiaRoleEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for reading slices of {@link NostalgiaRoleEntity} objects without counting the totals.
+ *
+ * @see NostalgiaRoleRepository
+ */
+public interface NostalgiaRoleSliceRepository {
+
+    /**
+     * Finds a slice of roles matching the given specification without counting the totals.
+     *
+     * @param specification the specification of the roles
+     * @param pageable      the page to find
+     * @return the slice of roles
+     */
+    Slice<NostalgiaRoleEntity> findAllSlice(Specification<NostalgiaRoleEntity> specification, Pageable pageable);
+
+}
@@ -0,0 +1,62 @@
+package org.nostalgia.auth.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.nostalgia.auth.model.entity.NostalgiaRoleEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link NostalgiaRoleSliceRepository}.
+ * <p>
+ * One more row than the page size is queried to tell whether there is a next page, instead of counting the totals.
+ * </p>
+ */
+@RequiredArgsConstructor
+class NostalgiaRoleSliceRepositoryImpl implements NostalgiaRoleSliceRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<NostalgiaRoleEntity> findAllSlice(final Specification<NostalgiaRoleEntity> specification,
+                                                   final Pageable pageable) {
+
+        final CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<NostalgiaRoleEntity> query = criteriaBuilder.createQuery(NostalgiaRoleEntity.class);
+        final Root<NostalgiaRoleEntity> root = query.from(NostalgiaRoleEntity.class);
+        query.select(root);
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        final TypedQuery<NostalgiaRoleEntity> typedQuery = this.entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+
+        final List<NostalgiaRoleEntity> roleEntities = typedQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        final boolean hasNext = roleEntities.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? roleEntities.subList(0, pageable.getPageSize()) : roleEntities, pageable, hasNext);
+    }
+
+}
@@ -1,30 +1,51 @@
 package org.nostalgia.auth.repository;
 
 import org.nostalgia.auth.model.entity.NostalgiaUserEntity;
+import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for performing CRUD operations on UserEntity objects.
+ *
+ * @see NostalgiaUserSummaryRepository
  */
-public interface NostalgiaUserRepository extends JpaRepository<NostalgiaUserEntity, String>, JpaSpecificationExecutor<NostalgiaUserEntity> {
+public interface NostalgiaUserRepository extends JpaRepository<NostalgiaUserEntity, String>, JpaSpecificationExecutor<NostalgiaUserEntity>, NostalgiaUserSummaryRepository {
 
     /**
-     * Finds a user by emailAddress.
+     * Finds a user by ID with the {@value NostalgiaUserEntity#DETAIL_GRAPH} fetch plan.
+     *
+     * @param id the ID of the user to be found
+     * @return an optional containing the UserEntity with the given ID, or an empty optional if not found
+     */
+    @Override
+    @EntityGraph(NostalgiaUserEntity.DETAIL_GRAPH)
+    Optional<NostalgiaUserEntity> findById(String id);
+
+    /**
+     * Finds a user by emailAddress with the {@value NostalgiaUserEntity#LOGIN_GRAPH} fetch plan.
      *
      * @param emailAddress the username of the user to be found
      * @return an optional containing the UserEntity with the given username, or an empty optional if not found
      */
+    @EntityGraph(NostalgiaUserEntity.LOGIN_GRAPH)
     Optional<NostalgiaUserEntity> findByEmailAddress(String emailAddress);
 
     /**
-     * Finds a user entity by the password ID.
+     * Finds a user entity by the password ID with the {@value NostalgiaUserEntity#DETAIL_GRAPH} fetch plan.
      *
      * @param passwordId the ID of the password to search for.
      * @return an Optional containing the found user entity, or empty if no user entity was found with the given password ID.
      */
+    @EntityGraph(NostalgiaUserEntity.DETAIL_GRAPH)
     Optional<NostalgiaUserEntity> findByPasswordId(String passwordId);
 
     /**
@@ -35,4 +56,23 @@ public interface NostalgiaUserRepository extends JpaRepository<NostalgiaUserEnti
      */
     boolean existsByEmailAddress(String emailAddress);
 
+    /**
+     * Updates the status of the user with the given ID in a single statement, if its current status is one of the given statuses.
+     *
+     * @param id              the ID of the user
+     * @param status          the new status of the user
+     * @param currentStatuses the statuses the user is allowed to be in for the transition
+     * @param updatedUser     the auditing user of the update
+     * @param updatedAt       the time of the update
+     * @return the number of updated users, which is {@code 0} if the user does not exist or is in another status
+     */
+    @Modifying
+    @Query("UPDATE NostalgiaUserEntity user SET user.status = :status, user.updatedUser = :updatedUser, user.updatedAt = :updatedAt " +
+            "WHERE user.id = :id AND user.status IN :currentStatuses")
+    int updateStatus(@Param("id") String id,
+                     @Param("status") NostalgiaUserStatus status,
+                     @Param("currentStatuses") Set<NostalgiaUserStatus> currentStatuses,
+                     @Param("updatedUser") String updatedUser,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
 }
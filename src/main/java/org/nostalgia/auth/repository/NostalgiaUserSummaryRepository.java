@@ -0,0 +1,40 @@
+package org.nostalgia.auth.repository;
+
+import org.nostalgia.auth.model.NostalgiaUserSummary;
+import org.nostalgia.auth.model.entity.NostalgiaUserEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository fragment for reading {@link NostalgiaUserSummary} projections of {@link NostalgiaUserEntity} objects.
+ *
+ * @see NostalgiaUserRepository
+ */
+public interface NostalgiaUserSummaryRepository {
+
+    /**
+     * Finds a slice of user summaries matching the given specification, selecting only the summary columns
+     * and without counting the totals.
+     *
+     * @param specification the specification of the users
+     * @param pageable      the page to find
+     * @return the slice of user summaries
+     */
+    Slice<NostalgiaUserSummary> findAllSummaries(Specification<NostalgiaUserEntity> specification, Pageable pageable);
+
+    /**
+     * Finds up to the given number of user summaries matching the given specification in the given sort,
+     * selecting only the summary columns and without counting the totals.
+     *
+     * @param specification the specification of the users
+     * @param sort          the sort of the users
+     * @param limit         the maximum number of user summaries to find
+     * @return the list of user summaries
+     */
+    List<NostalgiaUserSummary> findAllSummaries(Specification<NostalgiaUserEntity> specification, Sort sort, int limit);
+
+}
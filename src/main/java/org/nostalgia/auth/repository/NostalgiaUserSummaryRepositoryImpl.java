@@ -0,0 +1,90 @@
+package org.nostalgia.auth.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.nostalgia.auth.model.NostalgiaUserSummary;
+import org.nostalgia.auth.model.entity.NostalgiaUserEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link NostalgiaUserSummaryRepository}.
+ * <p>
+ * The specification is applied to a query which constructs {@link NostalgiaUserSummary} objects from the selected
+ * columns, so no user entity is loaded into the persistence context. No total is counted, one more row than the page
+ * size is queried instead to tell whether there is a next page.
+ * </p>
+ */
+@RequiredArgsConstructor
+class NostalgiaUserSummaryRepositoryImpl implements NostalgiaUserSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<NostalgiaUserSummary> findAllSummaries(final Specification<NostalgiaUserEntity> specification,
+                                                        final Pageable pageable) {
+
+        final TypedQuery<NostalgiaUserSummary> query = this.createQuery(specification, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+
+        final List<NostalgiaUserSummary> summaries = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        final boolean hasNext = summaries.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? summaries.subList(0, pageable.getPageSize()) : summaries, pageable, hasNext);
+    }
+
+    @Override
+    public List<NostalgiaUserSummary> findAllSummaries(final Specification<NostalgiaUserEntity> specification,
+                                                       final Sort sort,
+                                                       final int limit) {
+
+        return this.createQuery(specification, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<NostalgiaUserSummary> createQuery(final Specification<NostalgiaUserEntity> specification,
+                                                         final Sort sort) {
+
+        final CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<NostalgiaUserSummary> query = criteriaBuilder.createQuery(NostalgiaUserSummary.class);
+        final Root<NostalgiaUserEntity> root = query.from(NostalgiaUserEntity.class);
+
+        query.select(criteriaBuilder.construct(
+                NostalgiaUserSummary.class,
+                root.get("id"),
+                root.get("emailAddress"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        return this.entityManager.createQuery(query);
+    }
+
+}
@@ -1,23 +1,19 @@
 package org.nostalgia.auth.scheduler;
 
 import lombok.extern.slf4j.Slf4j;
-import org.nostalgia.auth.model.enums.NostalgiaConfigurationParameter;
-import org.nostalgia.auth.port.NostalgiaInvalidTokenDeletePort;
-import org.nostalgia.parameter.model.NostalgiaParameter;
-import org.nostalgia.parameter.port.NostalgiaParameterReadPort;
+import org.nostalgia.auth.service.NostalgiaInvalidTokenService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
 /**
  * Scheduler component for deleting invalid tokens based on a configured cron expression.
  * <p>
- * This component deletes invalid tokens that were created before a specified expiration threshold,
- * as determined by the configured refresh token expiration day parameter. It uses a {@link NostalgiaInvalidTokenDeletePort}
- * to perform the deletion operation. The scheduler is enabled if the property
+ * This component deletes the invalid tokens which have already expired, since an expired token is rejected by its
+ * own expiration time and no longer needs to be kept as invalid. It uses the {@link NostalgiaInvalidTokenService}
+ * to perform the deletion operation in chunks, so that the in-memory revocation index is pruned in step with the table. The scheduler is enabled if the property
  * `Nostalgia.scheduler.invalid-tokens-deletion.enable` is set to `true` in the application properties.
  * </p>
  *
@@ -31,14 +27,11 @@ import java.time.LocalDateTime;
 @ConditionalOnProperty(name = "Nostalgia.scheduler.invalid-tokens-deletion.enable", havingValue = "true")
 class NostalgiaInvalidTokenDeletionScheduler {
 
-    private final NostalgiaInvalidTokenDeletePort invalidTokenDeletePort;
-    private final NostalgiaParameterReadPort parameterReadPort;
+    private final NostalgiaInvalidTokenService invalidTokenService;
 
-    public NostalgiaInvalidTokenDeletionScheduler(NostalgiaInvalidTokenDeletePort invalidTokenDeletePort,
-                                                  NostalgiaParameterReadPort parameterReadPort) {
+    public NostalgiaInvalidTokenDeletionScheduler(NostalgiaInvalidTokenService invalidTokenService) {
 
-        this.invalidTokenDeletePort = invalidTokenDeletePort;
-        this.parameterReadPort = parameterReadPort;
+        this.invalidTokenService = invalidTokenService;
 
         log.info("InvalidTokenDeletionScheduler is enabled.");
     }
@@ -47,23 +40,17 @@ class NostalgiaInvalidTokenDeletionScheduler {
      * Scheduled method to delete invalid tokens based on the configured cron expression.
      * <p>
      * This method runs periodically based on the cron expression configured in
-     * `Nostalgia.scheduler.invalid-tokens-deletion.cron`. It retrieves the expiration threshold from the application parameters,
-     * calculates the threshold date, and deletes all invalid tokens created before that date.
+     * `Nostalgia.scheduler.invalid-tokens-deletion.cron` and deletes all invalid tokens which expired before now.
+     * The deletion is not wrapped in a single transaction; each chunk is committed on its own.
      * </p>
      */
-    @Transactional
     @Scheduled(cron = "${Nostalgia.scheduler.invalid-tokens-deletion.cron}")
     public void deleteInvalidTokens() {
-        final NostalgiaParameter refreshTokenExpireDayParameter = parameterReadPort
-                .findByName(NostalgiaConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.name())
-                .orElse(NostalgiaParameter.from(NostalgiaConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY));
+        final LocalDateTime expirationThreshold = LocalDateTime.now();
 
-        LocalDateTime expirationThreshold = LocalDateTime.now()
-                .minusDays(Long.parseLong(refreshTokenExpireDayParameter.getDefinition()));
-
-        log.trace("Clearing all unused invalid tokens created before {}", expirationThreshold);
-        invalidTokenDeletePort.deleteAllByCreatedAtBefore(expirationThreshold);
-        log.trace("All unused invalid tokens created before {} have been cleared", expirationThreshold);
+        log.trace("Clearing all invalid tokens expired before {}", expirationThreshold);
+        invalidTokenService.deleteAllByExpiresAtBefore(expirationThreshold);
+        log.trace("All invalid tokens expired before {} have been cleared", expirationThreshold);
     }
 
 }
@@ -0,0 +1,37 @@
+package org.nostalgia.auth.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.service.NostalgiaInvalidTokenService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler component for applying the tokens invalidated on the other application nodes.
+ * <p>
+ * This component pulls the newly invalidated tokens from the revocation change feed through the
+ * {@link NostalgiaInvalidTokenService} with a fixed delay, configured by `nostalgia.token.revocation-feed.poll-interval`
+ * as a duration such as `5s`. A token invalidated on one node is therefore rejected by all the other nodes within about one poll interval.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaInvalidTokenSynchronizationScheduler {
+
+    private final NostalgiaInvalidTokenService invalidTokenService;
+
+    public NostalgiaInvalidTokenSynchronizationScheduler(NostalgiaInvalidTokenService invalidTokenService) {
+
+        this.invalidTokenService = invalidTokenService;
+
+        log.info("InvalidTokenSynchronizationScheduler is enabled.");
+    }
+
+    /**
+     * Scheduled method to apply the tokens invalidated since the previous run.
+     */
+    @Scheduled(fixedDelayString = "${nostalgia.token.revocation-feed.poll-interval:5s}")
+    public void synchronizeInvalidTokens() {
+        invalidTokenService.synchronizeInvalidTokens();
+    }
+
+}
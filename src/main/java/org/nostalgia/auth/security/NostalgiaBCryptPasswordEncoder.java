@@ -0,0 +1,47 @@
+package org.nostalgia.auth.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt password encoder which reports every hash of a different strength as outdated.
+ * <p>
+ * {@link BCryptPasswordEncoder#upgradeEncoding(String)} only upgrades the hashes of a lower strength,
+ * so lowering the strength to fit the CPU budget would never take effect for the stored hashes.
+ * This encoder rehashes them towards the configured strength in both directions.
+ * </p>
+ */
+public class NostalgiaBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern STRENGTH_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    /**
+     * Constructs a new encoder of the given strength.
+     *
+     * @param strength the log2 of the number of rounds, between 4 and 31
+     */
+    public NostalgiaBCryptPasswordEncoder(final int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        final Matcher matcher = STRENGTH_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        return Integer.parseInt(matcher.group(1)) != this.strength;
+    }
+
+}
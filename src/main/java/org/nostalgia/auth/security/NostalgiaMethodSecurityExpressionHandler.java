@@ -0,0 +1,157 @@
+package org.nostalgia.auth.security;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.nostalgia.auth.model.NostalgiaAuthorities;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+import java.util.function.Supplier;
+
+/**
+ * Method security expression handler which answers the authority checks of {@code @PreAuthorize} expressions
+ * from the shared {@link NostalgiaAuthorities} of the authentication.
+ * <p>
+ * The default expression root copies the authority names of the authentication into a new set on every evaluation.
+ * This handler wraps the default root, so that {@code hasAuthority} and {@code hasAnyAuthority} are answered with
+ * constant time lookups in the already built {@link NostalgiaAuthorities}, while every other operation is delegated.
+ * </p>
+ */
+public class NostalgiaMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    @Override
+    public EvaluationContext createEvaluationContext(final Supplier<Authentication> authentication,
+                                                     final MethodInvocation methodInvocation) {
+
+        final EvaluationContext context = super.createEvaluationContext(authentication, methodInvocation);
+        if (context instanceof StandardEvaluationContext standardContext
+                && standardContext.getRootObject().getValue() instanceof MethodSecurityExpressionOperations root) {
+            standardContext.setRootObject(new NostalgiaMethodSecurityExpressionRoot(root));
+        }
+        return context;
+    }
+
+
+    /**
+     * Expression root which checks the authorities through {@link NostalgiaAuthorities} and delegates
+     * everything else to the default root.
+     */
+    @RequiredArgsConstructor
+    public static class NostalgiaMethodSecurityExpressionRoot implements MethodSecurityExpressionOperations {
+
+        public final boolean permitAll = true;
+        public final boolean denyAll = false;
+        public final String read = "read";
+        public final String write = "write";
+        public final String create = "create";
+        public final String delete = "delete";
+        public final String admin = "administration";
+
+        private final MethodSecurityExpressionOperations delegate;
+
+        @Override
+        public boolean hasAuthority(final String authority) {
+            if (this.getAuthentication().getAuthorities() instanceof NostalgiaAuthorities authorities) {
+                return authorities.hasAuthority(authority);
+            }
+            return this.delegate.hasAuthority(authority);
+        }
+
+        @Override
+        public boolean hasAnyAuthority(final String... authorities) {
+            if (this.getAuthentication().getAuthorities() instanceof NostalgiaAuthorities nostalgiaAuthorities) {
+                return nostalgiaAuthorities.hasAnyAuthority(authorities);
+            }
+            return this.delegate.hasAnyAuthority(authorities);
+        }
+
+        public Object getPrincipal() {
+            return this.getAuthentication().getPrincipal();
+        }
+
+        @Override
+        public Authentication getAuthentication() {
+            return this.delegate.getAuthentication();
+        }
+
+        @Override
+        public boolean hasRole(final String role) {
+            return this.delegate.hasRole(role);
+        }
+
+        @Override
+        public boolean hasAnyRole(final String... roles) {
+            return this.delegate.hasAnyRole(roles);
+        }
+
+        @Override
+        public boolean permitAll() {
+            return this.delegate.permitAll();
+        }
+
+        @Override
+        public boolean denyAll() {
+            return this.delegate.denyAll();
+        }
+
+        @Override
+        public boolean isAnonymous() {
+            return this.delegate.isAnonymous();
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+            return this.delegate.isAuthenticated();
+        }
+
+        @Override
+        public boolean isRememberMe() {
+            return this.delegate.isRememberMe();
+        }
+
+        @Override
+        public boolean isFullyAuthenticated() {
+            return this.delegate.isFullyAuthenticated();
+        }
+
+        @Override
+        public boolean hasPermission(final Object target, final Object permission) {
+            return this.delegate.hasPermission(target, permission);
+        }
+
+        @Override
+        public boolean hasPermission(final Object targetId, final String targetType, final Object permission) {
+            return this.delegate.hasPermission(targetId, targetType, permission);
+        }
+
+        @Override
+        public void setFilterObject(final Object filterObject) {
+            this.delegate.setFilterObject(filterObject);
+        }
+
+        @Override
+        public Object getFilterObject() {
+            return this.delegate.getFilterObject();
+        }
+
+        @Override
+        public void setReturnObject(final Object returnObject) {
+            this.delegate.setReturnObject(returnObject);
+        }
+
+        @Override
+        public Object getReturnObject() {
+            return this.delegate.getReturnObject();
+        }
+
+        @Override
+        public Object getThis() {
+            return this.delegate.getThis();
+        }
+
+    }
+
+}
@@ -1,5 +1,8 @@
 package org.nostalgia.auth.service;
 
+import org.nostalgia.auth.model.NostalgiaInvalidToken;
+
+import java.time.LocalDateTime;
 import java.util.Set;
 
 /**
@@ -8,11 +11,11 @@ import java.util.Set;
 public interface NostalgiaInvalidTokenService {
 
     /**
-     * Invalidates the specified token IDs.
+     * Invalidates the specified tokens until their expiration time.
      *
-     * @param tokenIds a set of token IDs to invalidate
+     * @param invalidTokens a set of tokens, each with its token ID and expiration time, to invalidate
      */
-    void invalidateTokens(final Set<String> tokenIds);
+    void invalidateTokens(final Set<NostalgiaInvalidToken> invalidTokens);
 
     /**
      * Checks the validity of a token.
@@ -21,4 +24,16 @@ public interface NostalgiaInvalidTokenService {
      */
     void checkForInvalidityOfToken(final String tokenId);
 
+    /**
+     * Deletes the invalid tokens which expire before the specified expiration threshold.
+     *
+     * @param expirationThreshold the timestamp threshold before which expiring invalid tokens will be deleted
+     */
+    void deleteAllByExpiresAtBefore(final LocalDateTime expirationThreshold);
+
+    /**
+     * Applies the tokens invalidated on the other application nodes since the last synchronization.
+     */
+    void synchronizeInvalidTokens();
+
 }
@@ -1,6 +1,7 @@
 package org.nostalgia.auth.service;
 
 import io.jsonwebtoken.Claims;
+import org.nostalgia.auth.model.NostalgiaParsedToken;
 import org.nostalgia.auth.model.NostalgiaToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
@@ -32,6 +33,16 @@ public interface NostalgiaTokenService {
      */
     NostalgiaToken generate(Claims claims, String refreshToken);
 
+    /**
+     * Verifies, validates and parses the given JWT in a single pass.
+     * This method checks the JWT's signature, expiration, and other validity criteria only once
+     * and returns the header, claims and authorities of the token for further use.
+     *
+     * @param jwt the JWT as a {@link String} to be verified, validated and parsed
+     * @return the {@link NostalgiaParsedToken} containing the parsed content of the JWT
+     */
+    NostalgiaParsedToken verifyAndParse(String jwt);
+
     /**
      * Verifies and validates the given JWT.
      * This method checks the JWT's signature, expiration, and other validity criteria.
@@ -1,6 +1,7 @@
 package org.nostalgia.auth.service;
 
 import org.nostalgia.auth.model.NostalgiaUser;
+import org.nostalgia.auth.model.NostalgiaUserSummary;
 import org.nostalgia.auth.model.request.NostalgiaUserListRequest;
 import org.nostalgia.common.model.NostalgiaPage;
 
@@ -28,9 +29,9 @@ public interface NostalgiaUserReadService {
      * </p>
      *
      * @param listRequest the request containing parameters for filtering, sorting, and pagination.
-     * @return a paginated list of users matching the request criteria.
+     * @return a paginated list of user summaries matching the request criteria.
      */
-    NostalgiaPage<NostalgiaUser> findAll(NostalgiaUserListRequest listRequest);
+    NostalgiaPage<NostalgiaUserSummary> findAll(NostalgiaUserListRequest listRequest);
 
     /**
      * Retrieves the details of a specific user by its ID.
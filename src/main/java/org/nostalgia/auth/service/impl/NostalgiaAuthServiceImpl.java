@@ -3,6 +3,8 @@ package org.nostalgia.auth.service.impl;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.nostalgia.auth.model.NostalgiaIdentity;
+import org.nostalgia.auth.model.NostalgiaInvalidToken;
+import org.nostalgia.auth.model.NostalgiaParsedToken;
 import org.nostalgia.auth.model.NostalgiaToken;
 import org.nostalgia.auth.model.NostalgiaUser;
 import org.nostalgia.auth.model.enums.NostalgiaTokenClaims;
@@ -13,8 +15,8 @@ import org.nostalgia.auth.service.NostalgiaAuthService;
 import org.nostalgia.auth.service.NostalgiaInvalidTokenService;
 import org.nostalgia.auth.service.NostalgiaTokenService;
 import org.nostalgia.auth.util.exception.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -37,7 +39,8 @@ class NostalgiaAuthServiceImpl implements NostalgiaAuthService {
 
     private final NostalgiaUserReadPort userReadPort;
     private final NostalgiaUserSavePort userSavePort;
-    private final PasswordEncoder passwordEncoder;
+    private final NostalgiaPasswordVerifier passwordVerifier;
+    private final NostalgiaLastLoginRecorder lastLoginRecorder;
 
     private final NostalgiaTokenService tokenService;
     private final NostalgiaInvalidTokenService invalidTokenService;
@@ -52,6 +55,13 @@ class NostalgiaAuthServiceImpl implements NostalgiaAuthService {
      * It then verifies the password against the encoded password stored in the database. If the password
      * is valid, it proceeds to validate the user's status and permissions for the requested source page.
      * Upon successful authentication, it updates the user's last login attempt and generates an access token.
+     * The last login time is written behind by the {@link NostalgiaLastLoginRecorder}. The user is only saved
+     * right away on its first login, which creates its login attempt, or if the stored password hash is outdated,
+     * in which case it is replaced by the hash computed during the verification.
+     * </p>
+     * <p>
+     * The method does not run in a transaction: the user is read and saved in their own transactions, so that
+     * no database connection is held while the password is verified by the {@link NostalgiaPasswordVerifier}.
      * </p>
      *
      * @param loginRequest The login request containing the user's email address, password, and source page.
@@ -60,27 +70,39 @@ class NostalgiaAuthServiceImpl implements NostalgiaAuthService {
      * @throws NostalgiaPasswordNotValidException      If the provided password is not valid.
      * @throws NostalgiaUserNotActiveException         If the user's status is not active.
      * @throws NostalgiaUserDoesNotAccessPageException If the user does not have permission to access the requested page.
+     * @throws NostalgiaPasswordVerificationRejectedException If the password verification capacity is exceeded.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public NostalgiaToken authenticate(final NostalgiaLoginRequest loginRequest) {
 
         final NostalgiaUser user = userReadPort.findByEmailAddress(loginRequest.getEmailAddress())
                 .orElseThrow(() -> new NostalgiaEmailAddressNotValidException(loginRequest.getEmailAddress()));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword().getValue())) {
+        final NostalgiaPasswordVerifier.Verification verification = passwordVerifier
+                .verify(loginRequest.getPassword(), user.getPassword().getValue());
+        if (!verification.isMatched()) {
             throw new NostalgiaPasswordNotValidException();
         }
 
         this.validateUserStatus(user);
 
-        Optional.ofNullable(user.getLoginAttempt())
-                .ifPresentOrElse(NostalgiaUser.LoginAttempt::success,
-                        () -> {
-                            user.setLoginAttempt(NostalgiaUser.LoginAttempt.builder().build());
-                            user.getLoginAttempt().success();
-                        });
-        userSavePort.save(user);
+        if (verification.getUpgradedPassword() != null) {
+            user.getPassword().setValue(verification.getUpgradedPassword());
+        }
+
+        if (user.getLoginAttempt() != null && verification.getUpgradedPassword() == null) {
+            user.getLoginAttempt().success();
+            lastLoginRecorder.record(user.getId(), user.getLoginAttempt().getLastLoginAt());
+        } else {
+            Optional.ofNullable(user.getLoginAttempt())
+                    .ifPresentOrElse(NostalgiaUser.LoginAttempt::success,
+                            () -> {
+                                user.setLoginAttempt(NostalgiaUser.LoginAttempt.builder().build());
+                                user.getLoginAttempt().success();
+                            });
+            userSavePort.save(user);
+        }
 
         final Claims claimsOfUser = user.getClaims();
         return tokenService.generate(claimsOfUser);
@@ -100,9 +122,7 @@ class NostalgiaAuthServiceImpl implements NostalgiaAuthService {
     @Transactional
     public NostalgiaToken refreshAccessToken(final String refreshToken) {
 
-        tokenService.verifyAndValidate(refreshToken);
-
-        final Claims claims = tokenService.getPayload(refreshToken);
+        final Claims claims = tokenService.verifyAndParse(refreshToken).getClaims();
 
         final String refreshTokenId = claims.getId();
 
@@ -145,12 +165,18 @@ class NostalgiaAuthServiceImpl implements NostalgiaAuthService {
     @Transactional
     public void invalidateTokens(final String refreshToken) {
 
-        tokenService.verifyAndValidate(refreshToken);
-        final String refreshTokenId = tokenService.getPayload(refreshToken).getId();
-        invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
-
-        final String accessTokenId = tokenService.getPayload(identity.getAccessToken()).getId();
-        invalidTokenService.invalidateTokens(Set.of(accessTokenId, refreshTokenId));
+        final NostalgiaParsedToken parsedRefreshToken = tokenService.verifyAndParse(refreshToken);
+        invalidTokenService.checkForInvalidityOfToken(parsedRefreshToken.getId());
+
+        final NostalgiaInvalidToken invalidAccessToken = NostalgiaInvalidToken.builder()
+                .tokenId(identity.getAccessTokenId())
+                .expiresAt(identity.getAccessTokenExpiresAt())
+                .build();
+        final NostalgiaInvalidToken invalidRefreshToken = NostalgiaInvalidToken.builder()
+                .tokenId(parsedRefreshToken.getId())
+                .expiresAt(parsedRefreshToken.getExpiresAt())
+                .build();
+        invalidTokenService.invalidateTokens(Set.of(invalidAccessToken, invalidRefreshToken));
     }
 
 }
@@ -0,0 +1,75 @@
+package org.nostalgia.auth.service.impl;
+
+import org.nostalgia.auth.model.NostalgiaAuthorities;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the canonical {@link NostalgiaAuthorities} of every permission combination seen in verified tokens.
+ * <p>
+ * A permission list is looked up as it is written in the token first, so that the common case of a repeated list
+ * costs a single hash lookup. A new list is canonicalized by its distinct permission names, so lists which differ
+ * only in order or duplicates share one {@link NostalgiaAuthorities} instance, and each permission is represented
+ * by one shared {@link GrantedAuthority}.
+ * </p>
+ * <p>
+ * Only verified tokens reach the registry, so the number of entries is bounded by the permission combinations
+ * that are actually issued.
+ * </p>
+ */
+@Component
+class NostalgiaAuthorityRegistry {
+
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+
+    private final Map<Set<String>, NostalgiaAuthorities> canonicalAuthorities = new ConcurrentHashMap<>();
+
+    private final Map<List<String>, NostalgiaAuthorities> authoritiesOfPermissionLists = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical authorities of the given permission list.
+     *
+     * @param permissionNames the permission names as they are written in a token
+     * @return the shared {@link NostalgiaAuthorities} of the permissions
+     */
+    NostalgiaAuthorities getAuthorities(final List<String> permissionNames) {
+
+        final NostalgiaAuthorities existingAuthorities = this.authoritiesOfPermissionLists.get(permissionNames);
+        if (existingAuthorities != null) {
+            return existingAuthorities;
+        }
+
+        final NostalgiaAuthorities canonical = this.getCanonicalAuthorities(permissionNames);
+        this.authoritiesOfPermissionLists.putIfAbsent(List.copyOf(permissionNames), canonical);
+        return canonical;
+    }
+
+    /**
+     * Returns the canonical authorities of the given distinct permission names.
+     *
+     * @param permissionNames the permission names in any order, possibly with duplicates
+     * @return the shared {@link NostalgiaAuthorities} of the permissions
+     */
+    NostalgiaAuthorities getCanonicalAuthorities(final Collection<String> permissionNames) {
+
+        final Set<String> distinctPermissionNames = Set.copyOf(permissionNames);
+
+        return this.canonicalAuthorities.computeIfAbsent(distinctPermissionNames, names -> {
+            final List<GrantedAuthority> grantedAuthorities = new ArrayList<>(names.size());
+            for (String name : new TreeSet<>(names)) {
+                grantedAuthorities.add(this.authorities.computeIfAbsent(name, SimpleGrantedAuthority::new));
+            }
+            return new NostalgiaAuthorities(grantedAuthorities);
+        });
+    }
+
+}
@@ -0,0 +1,220 @@
+package org.nostalgia.auth.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.model.NostalgiaInvalidToken;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenChangeFeedPort;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenReadPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory index of invalidated (revoked) token IDs, used to answer revocation checks without a database round trip.
+ * <p>
+ * The index consists of a Bloom filter which answers the common "not revoked" case, and an exact map of the token IDs
+ * that are still kept in the invalid token table, which resolves the false positives of the Bloom filter.
+ * It is loaded on startup through the {@link NostalgiaInvalidTokenReadPort}, updated whenever tokens are invalidated
+ * and pruned together with the invalid token table.
+ * </p>
+ * <p>
+ * Tokens invalidated on the other nodes are pulled from the {@link NostalgiaInvalidTokenChangeFeedPort}. The index keeps
+ * the feed position it has read up to, which is captured before the initial load, so that no token published
+ * in between is missed.
+ * </p>
+ * <p>
+ * Reads are lock-free. Writes are serialized, so that a rebuild of the Bloom filter never loses a concurrently added token.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaInvalidTokenIndex {
+
+    private final int expectedInsertions;
+    private final int changeFeedBatchSize;
+
+    private final NostalgiaInvalidTokenChangeFeedPort invalidTokenChangeFeedPort;
+
+    /**
+     * Exact set of the invalid token IDs, mapped to the expiration times of the tokens.
+     */
+    private final Map<String, LocalDateTime> invalidTokenIds = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * The position of the change feed read up to.
+     */
+    private long changeFeedPosition;
+
+    NostalgiaInvalidTokenIndex(@Value("${nostalgia.token.invalid-token-index.expected-insertions:100000}") final int expectedInsertions,
+                               @Value("${nostalgia.token.revocation-feed.batch-size:500}") final int changeFeedBatchSize,
+                               final NostalgiaInvalidTokenReadPort invalidTokenReadPort,
+                               final NostalgiaInvalidTokenChangeFeedPort invalidTokenChangeFeedPort) {
+
+        this.expectedInsertions = expectedInsertions;
+        this.changeFeedBatchSize = changeFeedBatchSize;
+        this.invalidTokenChangeFeedPort = invalidTokenChangeFeedPort;
+
+        log.info("Invalid token index is loading...");
+
+        this.changeFeedPosition = invalidTokenChangeFeedPort.findLatestPosition();
+
+        final Collection<NostalgiaInvalidToken> invalidTokens = invalidTokenReadPort.findAll();
+        this.bloomFilter = new BloomFilter(Math.max(expectedInsertions, invalidTokens.size() * 2));
+        this.addAll(invalidTokens);
+
+        log.info("Invalid token index is loaded with {} tokens!", invalidTokens.size());
+    }
+
+    /**
+     * Checks whether the given token ID has been invalidated.
+     *
+     * @param tokenId the token ID to check
+     * @return {@code true} if the token is invalidated, otherwise {@code false}
+     */
+    boolean contains(final String tokenId) {
+
+        if (!this.bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        return this.invalidTokenIds.containsKey(tokenId);
+    }
+
+    /**
+     * Adds the given invalid tokens to the index.
+     *
+     * @param invalidTokens the invalid tokens to add
+     */
+    synchronized void addAll(final Collection<NostalgiaInvalidToken> invalidTokens) {
+
+        for (NostalgiaInvalidToken invalidToken : invalidTokens) {
+            this.invalidTokenIds.put(invalidToken.getTokenId(), invalidToken.getExpiresAt());
+            this.bloomFilter.put(invalidToken.getTokenId());
+        }
+    }
+
+    /**
+     * Pulls the tokens invalidated since the last synchronization from the {@link NostalgiaInvalidTokenChangeFeedPort}
+     * in batches, and adds them to the index.
+     *
+     * @return the IDs of the tokens which were not in the index yet
+     */
+    synchronized Set<String> synchronize() {
+
+        final Set<String> tokenIds = new HashSet<>();
+        long previousPosition;
+        List<NostalgiaInvalidToken> invalidTokens;
+        do {
+            previousPosition = this.changeFeedPosition;
+            invalidTokens = this.invalidTokenChangeFeedPort.findAllAfter(previousPosition, this.changeFeedBatchSize);
+
+            for (NostalgiaInvalidToken invalidToken : invalidTokens) {
+                if (!this.invalidTokenIds.containsKey(invalidToken.getTokenId())) {
+                    tokenIds.add(invalidToken.getTokenId());
+                }
+                this.changeFeedPosition = Math.max(this.changeFeedPosition, invalidToken.getId());
+            }
+
+            this.addAll(invalidTokens);
+        } while (invalidTokens.size() >= this.changeFeedBatchSize && this.changeFeedPosition > previousPosition);
+
+        log.trace("Invalid token index is synchronized up to position {}", this.changeFeedPosition);
+        return tokenIds;
+    }
+
+    /**
+     * Removes the tokens expiring before the given threshold from the index and rebuilds the Bloom filter,
+     * since the Bloom filter itself does not support removals.
+     *
+     * @param expirationThreshold the timestamp threshold before which expiring tokens are removed
+     */
+    synchronized void removeAllExpiredBefore(final LocalDateTime expirationThreshold) {
+
+        this.invalidTokenIds.values().removeIf(expiresAt -> expiresAt.isBefore(expirationThreshold));
+
+        final BloomFilter rebuiltBloomFilter = new BloomFilter(Math.max(this.expectedInsertions, this.invalidTokenIds.size() * 2));
+        this.invalidTokenIds.keySet().forEach(rebuiltBloomFilter::put);
+        this.bloomFilter = rebuiltBloomFilter;
+
+        log.trace("Invalid token index is pruned, {} tokens are left", this.invalidTokenIds.size());
+    }
+
+
+    /**
+     * A thread-safe Bloom filter sized for a false positive probability of about one percent.
+     * <p>
+     * The bit positions are derived from two 32-bit hashes of the value with the Kirsch-Mitzenmacher double hashing scheme.
+     * </p>
+     */
+    private static class BloomFilter {
+
+        private static final int HASH_FUNCTION_COUNT = 7;
+        private static final int BITS_PER_INSERTION = 10;
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+
+        BloomFilter(final int expectedInsertions) {
+            final long words = Math.max(1, ((long) expectedInsertions * BITS_PER_INSERTION + 63) / 64);
+            this.bits = new AtomicLongArray(Math.toIntExact(words));
+            this.bitCount = words * 64;
+        }
+
+        void put(final String value) {
+            final long hash = hash(value);
+            final int hash1 = (int) hash;
+            final int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_FUNCTION_COUNT; i++) {
+                final long bitIndex = Math.floorMod(hash1 + (long) i * hash2, this.bitCount);
+                final int wordIndex = (int) (bitIndex >>> 6);
+                final long mask = 1L << bitIndex;
+                long word;
+                do {
+                    word = this.bits.get(wordIndex);
+                } while ((word & mask) == 0 && !this.bits.compareAndSet(wordIndex, word, word | mask));
+            }
+        }
+
+        boolean mightContain(final String value) {
+            final long hash = hash(value);
+            final int hash1 = (int) hash;
+            final int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_FUNCTION_COUNT; i++) {
+                final long bitIndex = Math.floorMod(hash1 + (long) i * hash2, this.bitCount);
+                if ((this.bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 64-bit FNV-1a hash of the UTF-8 bytes of the value, finalized with the MurmurHash3 mixer.
+         */
+        private static long hash(final String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+
+    }
+
+}
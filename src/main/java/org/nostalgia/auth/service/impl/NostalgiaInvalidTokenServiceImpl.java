@@ -1,13 +1,18 @@
 package org.nostalgia.auth.service.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.nostalgia.auth.model.NostalgiaInvalidToken;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenChangeFeedPort;
+import org.nostalgia.auth.port.NostalgiaInvalidTokenDeletePort;
 import org.nostalgia.auth.port.NostalgiaInvalidTokenReadPort;
 import org.nostalgia.auth.port.NostalgiaInvalidTokenSavePort;
 import org.nostalgia.auth.service.NostalgiaInvalidTokenService;
 import org.nostalgia.auth.util.exception.NostalgiaTokenAlreadyInvalidatedException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,40 +22,83 @@ import java.util.stream.Collectors;
  * This service class provides methods to invalidate tokens and check if a token has already been invalidated.
  * It uses ports to read and save invalid tokens, ensuring that token management operations are handled efficiently.
  * </p>
+ * <p>
+ * Revocation checks are answered by the in-memory {@link NostalgiaInvalidTokenIndex}, which is kept in step with
+ * the invalid tokens saved and deleted through this service, and with the ones invalidated on the other application
+ * nodes through the {@link NostalgiaInvalidTokenChangeFeedPort}.
+ * </p>
  */
 @Service
-@RequiredArgsConstructor
 class NostalgiaInvalidTokenServiceImpl implements NostalgiaInvalidTokenService {
 
-    private final NostalgiaInvalidTokenReadPort invalidTokenReadPort;
     private final NostalgiaInvalidTokenSavePort invalidTokenSavePort;
+    private final NostalgiaInvalidTokenDeletePort invalidTokenDeletePort;
+    private final NostalgiaInvalidTokenChangeFeedPort invalidTokenChangeFeedPort;
+
+    private final NostalgiaInvalidTokenIndex invalidTokenIndex;
+    private final NostalgiaVerifiedTokenCache verifiedTokenCache;
+
+    private final int deletionChunkSize;
+
+    NostalgiaInvalidTokenServiceImpl(final NostalgiaInvalidTokenSavePort invalidTokenSavePort,
+                                     final NostalgiaInvalidTokenDeletePort invalidTokenDeletePort,
+                                     final NostalgiaInvalidTokenChangeFeedPort invalidTokenChangeFeedPort,
+                                     final NostalgiaInvalidTokenIndex invalidTokenIndex,
+                                     final NostalgiaVerifiedTokenCache verifiedTokenCache,
+                                     @Value("${nostalgia.scheduler.invalid-tokens-deletion.chunk-size:1000}") final int deletionChunkSize) {
+        this.invalidTokenSavePort = invalidTokenSavePort;
+        this.invalidTokenDeletePort = invalidTokenDeletePort;
+        this.invalidTokenChangeFeedPort = invalidTokenChangeFeedPort;
+        this.invalidTokenIndex = invalidTokenIndex;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.deletionChunkSize = deletionChunkSize;
+    }
 
     /**
      * Invalidates multiple tokens by saving them as invalid tokens in the system.
      * <p>
-     * This method converts each token ID into an {@link NostalgiaInvalidToken} object and saves them using
-     * the {@link NostalgiaInvalidTokenSavePort}.
+     * This method saves the {@link NostalgiaInvalidToken} objects, which carry the expiration times of their tokens,
+     * using the {@link NostalgiaInvalidTokenSavePort}, and publishes them through the {@link NostalgiaInvalidTokenChangeFeedPort}.
+     * The tokens are then added to the {@link NostalgiaInvalidTokenIndex} and dropped from the {@link NostalgiaVerifiedTokenCache}.
+     * When called within a transaction, the tokens are published, indexed and evicted only after it is committed,
+     * so that a rolled back invalidation is neither applied on this node nor propagated to the others.
      * </p>
      *
-     * @param tokenIds the set of token IDs to invalidate
+     * @param invalidTokens the set of tokens to invalidate
      */
     @Override
-    public void invalidateTokens(final Set<String> tokenIds) {
-        final Set<NostalgiaInvalidToken> invalidTokens = tokenIds.stream()
-                .map(tokenId -> NostalgiaInvalidToken.builder()
-                        .tokenId(tokenId)
-                        .build()
-                )
+    public void invalidateTokens(final Set<NostalgiaInvalidToken> invalidTokens) {
+        final Set<String> tokenIds = invalidTokens.stream()
+                .map(NostalgiaInvalidToken::getTokenId)
                 .collect(Collectors.toSet());
 
         invalidTokenSavePort.saveAll(invalidTokens);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.apply(invalidTokens, tokenIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                NostalgiaInvalidTokenServiceImpl.this.apply(invalidTokens, tokenIds);
+            }
+        });
+    }
+
+    private void apply(final Set<NostalgiaInvalidToken> invalidTokens, final Set<String> tokenIds) {
+        invalidTokenChangeFeedPort.publish(invalidTokens);
+        invalidTokenIndex.addAll(invalidTokens);
+        verifiedTokenCache.evictAll(tokenIds);
     }
 
     /**
      * Checks if a token has already been invalidated.
      * <p>
-     * This method queries the {@link NostalgiaInvalidTokenReadPort} to determine if the specified token ID
-     * exists as an invalidated token. If it does, an {@link NostalgiaTokenAlreadyInvalidatedException} is thrown.
+     * This method looks the specified token ID up in the {@link NostalgiaInvalidTokenIndex}, which is loaded from the
+     * {@link NostalgiaInvalidTokenReadPort}, without a database round trip.
+     * If it exists as an invalidated token, an {@link NostalgiaTokenAlreadyInvalidatedException} is thrown.
      * </p>
      *
      * @param tokenId the token ID to check for invalidity
@@ -58,10 +106,45 @@ class NostalgiaInvalidTokenServiceImpl implements NostalgiaInvalidTokenService {
      */
     @Override
     public void checkForInvalidityOfToken(final String tokenId) {
-        final boolean isTokenInvalid = invalidTokenReadPort.findByTokenId(tokenId).isPresent();
+        final boolean isTokenInvalid = invalidTokenIndex.contains(tokenId);
         if (isTokenInvalid) {
             throw new NostalgiaTokenAlreadyInvalidatedException(tokenId);
         }
     }
 
+    /**
+     * Deletes the invalid tokens which expire before the specified expiration threshold.
+     * <p>
+     * This method deletes the tokens through the {@link NostalgiaInvalidTokenDeletePort} in chunks, each of which is
+     * committed on its own, so that a large backlog is never deleted in a single transaction.
+     * The tokens are then pruned from the {@link NostalgiaInvalidTokenIndex} as well.
+     * </p>
+     *
+     * @param expirationThreshold the timestamp threshold before which expiring invalid tokens will be deleted
+     */
+    @Override
+    public void deleteAllByExpiresAtBefore(final LocalDateTime expirationThreshold) {
+        int deletedCount;
+        do {
+            deletedCount = invalidTokenDeletePort.deleteAllByExpiresAtBefore(expirationThreshold, deletionChunkSize);
+        } while (deletedCount >= deletionChunkSize);
+
+        invalidTokenIndex.removeAllExpiredBefore(expirationThreshold);
+    }
+
+    /**
+     * Applies the tokens invalidated on the other application nodes since the last synchronization.
+     * <p>
+     * This method pulls the newly invalidated tokens from the {@link NostalgiaInvalidTokenChangeFeedPort} into the
+     * {@link NostalgiaInvalidTokenIndex} and drops them from the {@link NostalgiaVerifiedTokenCache}.
+     * </p>
+     */
+    @Override
+    public void synchronizeInvalidTokens() {
+        final Set<String> tokenIds = invalidTokenIndex.synchronize();
+        if (!tokenIds.isEmpty()) {
+            verifiedTokenCache.evictAll(tokenIds);
+        }
+    }
+
 }
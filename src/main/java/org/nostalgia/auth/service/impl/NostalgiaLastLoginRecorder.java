@@ -0,0 +1,115 @@
+package org.nostalgia.auth.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.port.NostalgiaUserLoginAttemptSavePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind recorder of the last login times of users.
+ * <p>
+ * Successful logins are buffered in memory and coalesced per user, keeping only the latest login time of each user.
+ * The buffer is flushed as a single batched update through the {@link NostalgiaUserLoginAttemptSavePort} once per
+ * flush interval, or as soon as it holds flush size users, and it is drained on a graceful shutdown.
+ * </p>
+ * <p>
+ * A failed flush puts its entries back into the buffer, so that they are retried with the next flush.
+ * The login times which are still buffered when the application stops abruptly are lost, which only makes
+ * the last login times of those users older than they are.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaLastLoginRecorder {
+
+    private final NostalgiaUserLoginAttemptSavePort loginAttemptSavePort;
+
+    private final int flushSize;
+
+    private final Map<String, LocalDateTime> lastLoginAtsOfUsers = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    NostalgiaLastLoginRecorder(final NostalgiaUserLoginAttemptSavePort loginAttemptSavePort,
+                               @Value("${nostalgia.auth.last-login.flush-interval:1s}") final Duration flushInterval,
+                               @Value("${nostalgia.auth.last-login.flush-size:500}") final int flushSize) {
+
+        this.loginAttemptSavePort = loginAttemptSavePort;
+        this.flushSize = flushSize;
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("nostalgia-last-login-"));
+        this.flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records a successful login of the given user, to be written with the next flush.
+     *
+     * @param userId      the ID of the user
+     * @param lastLoginAt the time of the login
+     */
+    void record(final String userId, final LocalDateTime lastLoginAt) {
+
+        this.lastLoginAtsOfUsers.merge(userId, lastLoginAt, (recorded, recording) -> recorded.isAfter(recording) ? recorded : recording);
+
+        if (this.lastLoginAtsOfUsers.size() >= this.flushSize
+                && !this.flusher.isShutdown()
+                && this.flushRequested.compareAndSet(false, true)) {
+            this.flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes the buffered login times in a single batch.
+     */
+    synchronized void flush() {
+
+        this.flushRequested.set(false);
+
+        if (this.lastLoginAtsOfUsers.isEmpty()) {
+            return;
+        }
+
+        final Map<String, LocalDateTime> batch = new HashMap<>();
+        for (String userId : this.lastLoginAtsOfUsers.keySet()) {
+            final LocalDateTime lastLoginAt = this.lastLoginAtsOfUsers.remove(userId);
+            if (lastLoginAt != null) {
+                batch.put(userId, lastLoginAt);
+            }
+        }
+
+        try {
+            this.loginAttemptSavePort.updateAllLastLoginAt(batch);
+            log.trace("Last login times of {} users are written", batch.size());
+        } catch (RuntimeException exception) {
+            log.error("Last login times of {} users could not be written, they will be retried", batch.size(), exception);
+            batch.forEach((userId, lastLoginAt) -> this.lastLoginAtsOfUsers
+                    .merge(userId, lastLoginAt, (recorded, failed) -> recorded.isAfter(failed) ? recorded : failed));
+        }
+    }
+
+    /**
+     * Stops the periodic flushes and drains the buffer.
+     */
+    @PreDestroy
+    void drain() throws InterruptedException {
+        this.flusher.shutdown();
+        if (!this.flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Last login flusher did not stop in time");
+        }
+        this.flush();
+    }
+
+}
@@ -0,0 +1,181 @@
+package org.nostalgia.auth.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.util.exception.NostalgiaPasswordVerificationRejectedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Verifies passwords against their hashes on a dedicated, bounded executor.
+ * <p>
+ * Password hashing is deliberately slow and CPU bound, so running it on the request threads lets a burst of logins
+ * occupy every request thread and, inside a transaction, every database connection. This verifier runs the hashing
+ * on a fixed number of threads in front of a bounded queue. When the queue is full, or a verification does not
+ * complete within the timeout, the login is shed with {@link NostalgiaPasswordVerificationRejectedException}
+ * instead of piling up.
+ * </p>
+ * <p>
+ * A matching password whose hash is outdated, such as a hash of another algorithm or cost than the configured ones,
+ * is rehashed in the same task, so that the caller can store the upgraded hash without hashing on its own thread.
+ * </p>
+ * <p>
+ * The executor is published through Micrometer under the {@value #METRIC_NAME} name, with the queue depth and active
+ * threads, along with the hashing latency, the time spent in the queue, the number of rejected verifications
+ * and the number of upgraded hashes.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaPasswordVerifier {
+
+    private static final String METRIC_NAME = "nostalgia.auth.password.verification";
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Timer hashTimer;
+    private final Timer queueTimer;
+    private final Counter rejectionCounter;
+    private final Counter upgradeCounter;
+
+    NostalgiaPasswordVerifier(final PasswordEncoder passwordEncoder,
+                              final MeterRegistry meterRegistry,
+                              @Value("${nostalgia.auth.password-verification.threads:0}") final int threads,
+                              @Value("${nostalgia.auth.password-verification.queue-capacity:100}") final int queueCapacity,
+                              @Value("${nostalgia.auth.password-verification.timeout:10s}") final Duration timeout) {
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("nostalgia-password-verification-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        new ExecutorServiceMetrics(this.executor, METRIC_NAME, List.of()).bindTo(meterRegistry);
+        this.hashTimer = Timer.builder(METRIC_NAME + ".hash")
+                .description("Time spent hashing a password for its verification")
+                .register(meterRegistry);
+        this.queueTimer = Timer.builder(METRIC_NAME + ".queue")
+                .description("Time a password verification waited in the queue")
+                .register(meterRegistry);
+        this.rejectionCounter = Counter.builder(METRIC_NAME + ".rejected")
+                .description("Password verifications rejected because the queue was full or the timeout was exceeded")
+                .register(meterRegistry);
+        this.upgradeCounter = Counter.builder(METRIC_NAME + ".upgraded")
+                .description("Outdated password hashes rehashed on a successful verification")
+                .register(meterRegistry);
+
+        log.info("Password verification is running on {} threads with a queue of {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Verifies the raw password against the encoded password, and rehashes a matching password if its hash
+     * is outdated, waiting for the hashing executor up to the configured timeout.
+     *
+     * @param rawPassword     the raw password to verify
+     * @param encodedPassword the encoded password to verify against
+     * @return the {@link Verification} of the password
+     * @throws NostalgiaPasswordVerificationRejectedException if the executor is out of capacity or the verification times out
+     */
+    Verification verify(final CharSequence rawPassword, final String encodedPassword) {
+
+        final long submittedAt = System.nanoTime();
+        final Future<Verification> verification;
+        try {
+            verification = this.executor.submit(() -> {
+                this.queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return this.hashTimer.record(() -> this.hash(rawPassword, encodedPassword));
+            });
+        } catch (RejectedExecutionException exception) {
+            this.rejectionCounter.increment();
+            throw new NostalgiaPasswordVerificationRejectedException();
+        }
+
+        try {
+            return verification.get(this.timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            verification.cancel(true);
+            this.rejectionCounter.increment();
+            throw new NostalgiaPasswordVerificationRejectedException();
+        } catch (InterruptedException exception) {
+            verification.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new NostalgiaPasswordVerificationRejectedException();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    private Verification hash(final CharSequence rawPassword, final String encodedPassword) {
+
+        if (!this.passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return Verification.MISMATCHED;
+        }
+
+        if (!this.passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return Verification.MATCHED;
+        }
+
+        this.upgradeCounter.increment();
+        return new Verification(true, this.passwordEncoder.encode(rawPassword));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+
+    /**
+     * The result of a password verification.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Verification {
+
+        private static final Verification MATCHED = new Verification(true, null);
+        private static final Verification MISMATCHED = new Verification(false, null);
+
+        /**
+         * Whether the raw password matches the encoded password.
+         */
+        private final boolean matched;
+
+        /**
+         * The new hash of the raw password if the encoded password is outdated, otherwise {@code null}.
+         */
+        private final String upgradedPassword;
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.nostalgia.auth.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.model.NostalgiaAuthorities;
+import org.nostalgia.auth.model.NostalgiaPermission;
+import org.nostalgia.auth.port.NostalgiaPermissionReadPort;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versioned dictionary of the permissions in the permission table, used to encode the permissions of a token
+ * as a compact bitset instead of a list of permission names.
+ * <p>
+ * Each permission is assigned the bit at its position in the permissions sorted by name. The version of the dictionary
+ * is derived from the sorted permission names, so every node with the same permission table builds the same dictionary,
+ * and a permission set encoded with another version is never decoded with the wrong bits.
+ * </p>
+ * <p>
+ * An encoded permission set has the form {@code <version>.<Base64URL encoded bitset>}. Decoded permission sets are
+ * resolved through the {@link NostalgiaAuthorityRegistry}, so that all the tokens with the same permissions share one
+ * {@link NostalgiaAuthorities} instance.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaPermissionDictionary {
+
+    private static final char SEPARATOR = '.';
+
+    private final String version;
+
+    /**
+     * The permission names in the order of their bits.
+     */
+    private final List<String> permissionNames;
+
+    private final Map<String, Integer> bitsOfPermissionNames;
+
+    private final NostalgiaAuthorityRegistry authorityRegistry;
+
+    private final Map<String, NostalgiaAuthorities> authoritiesOfPermissionSets = new ConcurrentHashMap<>();
+
+    NostalgiaPermissionDictionary(final NostalgiaPermissionReadPort permissionReadPort,
+                                  final NostalgiaAuthorityRegistry authorityRegistry) {
+
+        this.authorityRegistry = authorityRegistry;
+
+        final String[] permissionNames = permissionReadPort.findAll().stream()
+                .map(NostalgiaPermission::getName)
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+
+        final Map<String, Integer> bitsOfPermissionNames = new HashMap<>();
+        for (int bit = 0; bit < permissionNames.length; bit++) {
+            bitsOfPermissionNames.put(permissionNames[bit], bit);
+        }
+
+        this.permissionNames = List.of(permissionNames);
+        this.bitsOfPermissionNames = Map.copyOf(bitsOfPermissionNames);
+        this.version = generateVersion(permissionNames);
+
+        log.info("Permission dictionary {} is built with {} permissions", this.version, permissionNames.length);
+    }
+
+    /**
+     * Encodes the given permission names as a bitset, ignoring the duplicates.
+     *
+     * @param permissionNames the permission names to encode
+     * @return the encoded permission set
+     * @throws IllegalArgumentException if a permission is not in the dictionary
+     */
+    String encode(final Collection<String> permissionNames) {
+
+        final BitSet bits = new BitSet(this.permissionNames.size());
+        for (String permissionName : permissionNames) {
+            final Integer bit = this.bitsOfPermissionNames.get(permissionName);
+            if (bit == null) {
+                throw new IllegalArgumentException("Permission is not in the dictionary: " + permissionName);
+            }
+            bits.set(bit);
+        }
+
+        return this.version + SEPARATOR + Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+    }
+
+    /**
+     * Decodes the given permission set into its shared authorities.
+     *
+     * @param permissionSet the encoded permission set
+     * @return the {@link NostalgiaAuthorities} of the permission set
+     * @throws IllegalArgumentException if the permission set is malformed or encoded with another dictionary version
+     */
+    NostalgiaAuthorities decode(final String permissionSet) {
+
+        final NostalgiaAuthorities authorities = this.authoritiesOfPermissionSets.get(permissionSet);
+        if (authorities != null) {
+            return authorities;
+        }
+
+        final int separatorIndex = permissionSet.indexOf(SEPARATOR);
+        if (separatorIndex < 0 || !this.version.equals(permissionSet.substring(0, separatorIndex))) {
+            throw new IllegalArgumentException("Permission set is not encoded with dictionary " + this.version);
+        }
+
+        final BitSet bits = BitSet.valueOf(Base64.getUrlDecoder().decode(permissionSet.substring(separatorIndex + 1)));
+        if (bits.length() > this.permissionNames.size()) {
+            throw new IllegalArgumentException("Permission set has unknown permissions");
+        }
+
+        final List<String> decodedPermissionNames = new ArrayList<>(bits.cardinality());
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+            decodedPermissionNames.add(this.permissionNames.get(bit));
+        }
+
+        final NostalgiaAuthorities decodedAuthorities = this.authorityRegistry.getCanonicalAuthorities(decodedPermissionNames);
+        this.authoritiesOfPermissionSets.putIfAbsent(permissionSet, decodedAuthorities);
+        return decodedAuthorities;
+    }
+
+    /**
+     * Generates the version of the dictionary, which is the Base64URL encoded first 8 bytes of the SHA-256 digest
+     * of the sorted permission names.
+     */
+    private static String generateVersion(final String[] permissionNames) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.join("\n", permissionNames).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 8));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+}
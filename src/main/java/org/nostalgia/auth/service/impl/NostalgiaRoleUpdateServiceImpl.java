@@ -14,6 +14,7 @@ import org.nostalgia.auth.util.exception.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
@@ -80,15 +81,14 @@ class NostalgiaRoleUpdateServiceImpl implements NostalgiaRoleUpdateService {
      */
     @Override
     public void activate(String id) {
-        final NostalgiaRole role = roleReadPort.findById(id)
-                .orElseThrow(() -> new NostalgiaRoleNotExistByIdException(id));
 
-        if (!role.isPassive()) {
-            throw new NostalgiaInvalidRoleStatusException(NostalgiaRoleStatus.PASSIVE);
+        final boolean isActivated = roleSavePort.updateStatus(id, NostalgiaRoleStatus.ACTIVE, EnumSet.of(NostalgiaRoleStatus.PASSIVE));
+        if (isActivated) {
+            return;
         }
 
-        role.activate();
-        roleSavePort.save(role);
+        this.checkExistence(id);
+        throw new NostalgiaInvalidRoleStatusException(NostalgiaRoleStatus.PASSIVE);
     }
 
 
@@ -107,19 +107,18 @@ class NostalgiaRoleUpdateServiceImpl implements NostalgiaRoleUpdateService {
      */
     @Override
     public void passivate(String id) {
-        final NostalgiaRole role = roleReadPort.findById(id)
-                .orElseThrow(() -> new NostalgiaRoleNotExistByIdException(id));
 
         if (roleReadPort.isRoleUsing(id)) {
             throw new NostalgiaRoleAssignedToUserException(id);
         }
 
-        if (!role.isActive()) {
-            throw new NostalgiaInvalidRoleStatusException(NostalgiaRoleStatus.ACTIVE);
+        final boolean isPassivated = roleSavePort.updateStatus(id, NostalgiaRoleStatus.PASSIVE, EnumSet.of(NostalgiaRoleStatus.ACTIVE));
+        if (isPassivated) {
+            return;
         }
 
-        role.passivate();
-        roleSavePort.save(role);
+        this.checkExistence(id);
+        throw new NostalgiaInvalidRoleStatusException(NostalgiaRoleStatus.ACTIVE);
     }
 
 
@@ -135,19 +134,31 @@ class NostalgiaRoleUpdateServiceImpl implements NostalgiaRoleUpdateService {
     @Override
     public void delete(final String id) {
 
-        final NostalgiaRole role = roleReadPort.findById(id)
-                .orElseThrow(() -> new NostalgiaRoleNotExistByIdException(id));
-
         if (roleReadPort.isRoleUsing(id)) {
             throw new NostalgiaRoleAssignedToUserException(id);
         }
 
-        if (role.isDeleted()) {
-            throw new NostalgiaRoleAlreadyDeletedException(id);
+        final boolean isDeleted = roleSavePort.updateStatus(id, NostalgiaRoleStatus.DELETED, EnumSet.complementOf(EnumSet.of(NostalgiaRoleStatus.DELETED)));
+        if (isDeleted) {
+            return;
         }
 
-        role.delete();
-        roleSavePort.save(role);
+        this.checkExistence(id);
+        throw new NostalgiaRoleAlreadyDeletedException(id);
+    }
+
+
+    /**
+     * Checks the existence of the role after a status transition is not applied, to tell a missing role
+     * apart from a role in another status.
+     *
+     * @param id The ID of the role.
+     * @throws NostalgiaRoleNotExistByIdException if a role with the given ID does not exist.
+     */
+    private void checkExistence(final String id) {
+        if (roleReadPort.findById(id).isEmpty()) {
+            throw new NostalgiaRoleNotExistByIdException(id);
+        }
     }
 
 
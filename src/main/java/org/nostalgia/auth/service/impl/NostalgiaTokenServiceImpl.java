@@ -5,7 +5,9 @@ import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.RequiredTypeException;
 import io.jsonwebtoken.security.SignatureException;
@@ -13,33 +15,59 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.DateUtils;
 import org.nostalgia.auth.config.NostalgiaTokenConfigurationParameter;
+import org.nostalgia.auth.model.NostalgiaAuthenticationToken;
+import org.nostalgia.auth.model.NostalgiaAuthorities;
+import org.nostalgia.auth.model.NostalgiaParsedToken;
 import org.nostalgia.auth.model.NostalgiaToken;
 import org.nostalgia.auth.model.enums.NostalgiaTokenClaims;
+import org.nostalgia.auth.model.enums.NostalgiaTokenSignatureAlgorithm;
 import org.nostalgia.auth.service.NostalgiaTokenService;
 import org.nostalgia.auth.util.exception.NostalgiaTokenNotValidException;
 import org.nostalgia.common.util.NostalgiaListUtil;
 import org.nostalgia.common.util.NostalgiaRandomUtil;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.OAuth2AccessToken;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.security.Key;
+import java.security.PublicKey;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 
 /**
  * AYS Token service to handle with JWT processes
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 class NostalgiaTokenServiceImpl implements NostalgiaTokenService {
 
     private final NostalgiaTokenConfigurationParameter tokenConfiguration;
 
+    /**
+     * Thread-safe parser built once with the keyring, so that token verification does not rebuild it per call.
+     */
+    private final JwtParser tokenParser;
+
+    private final NostalgiaVerifiedTokenCache verifiedTokenCache;
+
+    private final NostalgiaPermissionDictionary permissionDictionary;
+
+    private final NostalgiaAuthorityRegistry authorityRegistry;
+
+    NostalgiaTokenServiceImpl(final NostalgiaTokenConfigurationParameter tokenConfiguration,
+                              final NostalgiaVerifiedTokenCache verifiedTokenCache,
+                              final NostalgiaPermissionDictionary permissionDictionary,
+                              final NostalgiaAuthorityRegistry authorityRegistry) {
+        this.tokenConfiguration = tokenConfiguration;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.permissionDictionary = permissionDictionary;
+        this.authorityRegistry = authorityRegistry;
+        this.tokenParser = Jwts.parser()
+                .keyLocator(new KeyringLocator(tokenConfiguration))
+                .build();
+    }
+
     /**
      * Generates an access token and a refresh token based on the provided claims.
      *
@@ -50,20 +78,21 @@ class NostalgiaTokenServiceImpl implements NostalgiaTokenService {
     public NostalgiaToken generate(final Claims claims) {
 
         final long currentTimeMillis = System.currentTimeMillis();
+        final NostalgiaTokenConfigurationParameter.Snapshot configuration = tokenConfiguration.getSnapshot();
 
-        final JwtBuilder tokenBuilder = this.initializeTokenBuilder(currentTimeMillis);
+        final JwtBuilder tokenBuilder = this.initializeTokenBuilder(configuration, currentTimeMillis);
 
         final Date accessTokenExpiresAt = DateUtils.addMinutes(
-                new Date(currentTimeMillis), tokenConfiguration.getAccessTokenExpireMinute()
+                new Date(currentTimeMillis), configuration.getAccessTokenExpireMinute()
         );
         final String accessToken = tokenBuilder
                 .id(NostalgiaRandomUtil.generateUUID())
                 .expiration(accessTokenExpiresAt)
-                .claims(claims)
+                .claims(this.compactPermissions(configuration, claims))
                 .compact();
 
         final Date refreshTokenExpiresAt = DateUtils.addDays(
-                new Date(currentTimeMillis), tokenConfiguration.getRefreshTokenExpireDay()
+                new Date(currentTimeMillis), configuration.getRefreshTokenExpireDay()
         );
         final String refreshToken = tokenBuilder
                 .id(NostalgiaRandomUtil.generateUUID())
@@ -90,14 +119,15 @@ class NostalgiaTokenServiceImpl implements NostalgiaTokenService {
     public NostalgiaToken generate(final Claims claims, final String refreshToken) {
 
         final long currentTimeMillis = System.currentTimeMillis();
+        final NostalgiaTokenConfigurationParameter.Snapshot configuration = tokenConfiguration.getSnapshot();
 
         final Date accessTokenExpiresAt = DateUtils.addMinutes(
-                new Date(currentTimeMillis), tokenConfiguration.getAccessTokenExpireMinute()
+                new Date(currentTimeMillis), configuration.getAccessTokenExpireMinute()
         );
-        final String accessToken = this.initializeTokenBuilder(currentTimeMillis)
+        final String accessToken = this.initializeTokenBuilder(configuration, currentTimeMillis)
                 .id(NostalgiaRandomUtil.generateUUID())
                 .expiration(accessTokenExpiresAt)
-                .claims(claims)
+                .claims(this.compactPermissions(configuration, claims))
                 .compact();
 
         return NostalgiaToken.builder()
@@ -107,108 +137,208 @@ class NostalgiaTokenServiceImpl implements NostalgiaTokenService {
                 .build();
     }
 
+    /**
+     * Replaces the permission names in the given claims with the permission set encoded by the
+     * {@link NostalgiaPermissionDictionary}, if compact permissions are enabled in the token configuration.
+     *
+     * @param configuration The snapshot of the token configuration the token is generated with.
+     * @param claims        The claims to be included in the access token.
+     * @return the claims with the compact permission set, or the given claims if compact permissions are disabled.
+     */
+    private Claims compactPermissions(final NostalgiaTokenConfigurationParameter.Snapshot configuration, final Claims claims) {
+
+        final List<String> permissions = NostalgiaListUtil.to(claims.get(NostalgiaTokenClaims.USER_PERMISSIONS.getValue()), String.class);
+        if (!configuration.isCompactPermissionsEnabled() || permissions == null) {
+            return claims;
+        }
+
+        return Jwts.claims()
+                .add(claims)
+                .delete(NostalgiaTokenClaims.USER_PERMISSIONS.getValue())
+                .add(NostalgiaTokenClaims.USER_PERMISSION_SET.getValue(), permissionDictionary.encode(permissions))
+                .build();
+    }
+
     /**
      * Initializes a JwtBuilder for creating a JSON Web Token (JWT) with the specified current time.
      *
+     * @param configuration     The snapshot of the token configuration the token is generated with.
      * @param currentTimeMillis The current time in milliseconds to be used as the "issued at" claim.
      * @return JwtBuilder instance configured with default and provided settings.
      * <p>
      * The JWT will have the following claims set:
-     * - Header with the token type set to Bearer.
+     * - Header with the token type set to Bearer and the key ID (kid) of the signing key.
      * - Issuer claim set to the configured issuer from the token configuration.
      * - Issued At (iat) claim set to the specified current time.
-     * - Signature configured with the private key from the token configuration.
+     * - Signature configured with the private key and the signature algorithm from the token configuration.
      */
-    private JwtBuilder initializeTokenBuilder(long currentTimeMillis) {
+    private JwtBuilder initializeTokenBuilder(final NostalgiaTokenConfigurationParameter.Snapshot configuration,
+                                              final long currentTimeMillis) {
         return Jwts.builder()
                 .header()
                 .type(OAuth2AccessToken.TokenType.BEARER.getValue())
+                .keyId(configuration.getKeyId())
                 .and()
-                .issuer(tokenConfiguration.getIssuer())
+                .issuer(configuration.getIssuer())
                 .issuedAt(new Date(currentTimeMillis))
-                .signWith(tokenConfiguration.getPrivateKey());
+                .signWith(configuration.getPrivateKey(), configuration.getSignatureAlgorithm().getAlgorithm());
     }
 
 
     /**
-     * Verifies and validates the given JWT (JSON Web Token).
-     * This method parses the token using the public key from the {@link NostalgiaTokenConfigurationParameter},
-     * and throws a {@link NostalgiaTokenNotValidException} if the token is not valid due to being malformed, expired or having an invalid signature.
+     * Verifies, validates and parses the given JWT (JSON Web Token) in a single pass.
+     * This method parses the token only once, using the public key of the keyring in the {@link NostalgiaTokenConfigurationParameter}
+     * which matches the key ID (kid) of the token header, checks its type and that it is signed with the algorithm of that key,
+     * and builds the {@link Jwt} and the granted authorities from the parsed claims.
+     * The granted authorities are the shared {@link NostalgiaAuthorities} of the {@link NostalgiaAuthorityRegistry},
+     * decoded by the {@link NostalgiaPermissionDictionary} for a compact permission set.
+     * Already verified tokens are served from the {@link NostalgiaVerifiedTokenCache} without parsing them again.
      *
-     * @param token The JWT (JSON Web Token) to be verified and validated.
+     * @param token The JWT (JSON Web Token) to be verified, validated and parsed.
+     * @return the {@link NostalgiaParsedToken} containing the header, claims, {@link Jwt} and authorities of the token.
      * @throws NostalgiaTokenNotValidException If the token is not valid due to being malformed, expired or having an invalid signature.
      */
     @Override
-    public void verifyAndValidate(String token) {
+    public NostalgiaParsedToken verifyAndParse(final String token) {
+
+        final NostalgiaParsedToken cachedToken = verifiedTokenCache.get(token);
+        if (cachedToken != null) {
+            return cachedToken;
+        }
+
+        final Jws<Claims> claims;
         try {
-            final Jws<Claims> claims = Jwts.parser()
-                    .verifyWith(tokenConfiguration.getPublicKey())
-                    .build()
-                    .parseSignedClaims(token);
+            claims = tokenParser.parseSignedClaims(token);
 
             final JwsHeader header = claims.getHeader();
             if (!OAuth2AccessToken.TokenType.BEARER.getValue().equals(header.getType())) {
                 throw new RequiredTypeException(token);
             }
 
-            if (!Jwts.SIG.RS256.getId().equals(header.getAlgorithm())) {
-                throw new SignatureException(token);
-            }
-
         } catch (MalformedJwtException | ExpiredJwtException | SignatureException | RequiredTypeException exception) {
             throw new NostalgiaTokenNotValidException(token, exception);
         }
+
+        final JwsHeader header = claims.getHeader();
+        final Claims payload = claims.getPayload();
+
+        final Jwt jwt = new Jwt(
+                token,
+                payload.getIssuedAt().toInstant(),
+                payload.getExpiration().toInstant(),
+                header,
+                payload
+        );
+
+        final NostalgiaAuthorities authorities = this.getAuthorities(token, payload);
+
+        final NostalgiaParsedToken parsedToken = NostalgiaParsedToken.builder()
+                .header(header)
+                .claims(payload)
+                .jwt(jwt)
+                .authentication(new NostalgiaAuthenticationToken(jwt, authorities))
+                .build();
+
+        verifiedTokenCache.put(token, parsedToken);
+        return parsedToken;
+    }
+
+    /**
+     * Resolves the shared granted authorities of either the compact permission set or the permission names of the given claims.
+     *
+     * @param token   The JWT (JSON Web Token) the claims are parsed from.
+     * @param payload The claims of the token.
+     * @return the granted authorities of the token.
+     * @throws NostalgiaTokenNotValidException If the compact permission set cannot be decoded.
+     */
+    private NostalgiaAuthorities getAuthorities(final String token, final Claims payload) {
+
+        final String permissionSet = payload.get(NostalgiaTokenClaims.USER_PERMISSION_SET.getValue(), String.class);
+        if (permissionSet != null) {
+            try {
+                return permissionDictionary.decode(permissionSet);
+            } catch (IllegalArgumentException exception) {
+                throw new NostalgiaTokenNotValidException(token, exception);
+            }
+        }
+
+        final List<String> permissions = NostalgiaListUtil.to(payload.get(NostalgiaTokenClaims.USER_PERMISSIONS.getValue()), String.class);
+        return authorityRegistry.getAuthorities(permissions != null ? permissions : List.of());
+    }
+
+    /**
+     * Verifies and validates the given JWT (JSON Web Token).
+     * This method delegates to {@link #verifyAndParse(String)} and discards the parsed content.
+     *
+     * @param token The JWT (JSON Web Token) to be verified and validated.
+     * @throws NostalgiaTokenNotValidException If the token is not valid due to being malformed, expired or having an invalid signature.
+     */
+    @Override
+    public void verifyAndValidate(final String token) {
+        this.verifyAndParse(token);
     }
 
     /**
      * Parses the given JWT and returns its claims as a {@link Claims} object.
+     * Prefer {@link #verifyAndParse(String)} when more than the claims of the token are needed.
      *
      * @param token the JWT string to parse
      * @return the parsed JWT claims as a {@link Claims} object
      */
     @Override
-    public Claims getPayload(String token) {
-        return Jwts.parser()
-                .verifyWith(tokenConfiguration.getPublicKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims getPayload(final String token) {
+        return this.verifyAndParse(token).getClaims();
     }
 
     /**
      * Retrieves the authentication object {@link UsernamePasswordAuthenticationToken} based on the provided token.
-     * This method parses the token using the public key from the {@link NostalgiaTokenConfigurationParameter} and extracts the necessary information from the token claims,
-     * such as user type and roles, to construct the authentication object.
+     * Prefer {@link #verifyAndParse(String)} when more than the authentication of the token is needed.
      *
      * @param token The token string used for authentication.
      * @return The constructed {@link UsernamePasswordAuthenticationToken} object.
      */
     @Override
-    public UsernamePasswordAuthenticationToken getAuthentication(String token) {
+    public UsernamePasswordAuthenticationToken getAuthentication(final String token) {
+        return this.verifyAndParse(token).getAuthentication();
+    }
+
 
-        Jws<Claims> claims = Jwts.parser()
-                .verifyWith(tokenConfiguration.getPublicKey())
-                .build()
-                .parseSignedClaims(token);
+    /**
+     * Locates the public key to verify a token with from the keyring, by the key ID (kid) in the token header.
+     * Tokens without a key ID are verified with the public key of the current signing key.
+     * The algorithm (alg) in the token header has to be the one the located key is used with.
+     */
+    @RequiredArgsConstructor
+    private static class KeyringLocator extends LocatorAdapter<Key> {
 
-        JwsHeader header = claims.getHeader();
-        Claims payload = claims.getPayload();
+        private final NostalgiaTokenConfigurationParameter tokenConfiguration;
 
-        final Jwt jwt = new Jwt(
-                token,
-                payload.getIssuedAt().toInstant(),
-                payload.getExpiration().toInstant(),
-                Map.of(
-                        NostalgiaTokenClaims.TYPE.getValue(), header.getType(),
-                        NostalgiaTokenClaims.ALGORITHM.getValue(), header.getAlgorithm()
-                ),
-                payload
-        );
+        @Override
+        protected Key locate(final JwsHeader header) {
 
-        final List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-        final List<String> permissions = NostalgiaListUtil.to(payload.get(NostalgiaTokenClaims.USER_PERMISSIONS.getValue()), String.class);
-        permissions.forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission)));
+            final NostalgiaTokenConfigurationParameter.Snapshot configuration = tokenConfiguration.getSnapshot();
+
+            final String keyId = header.getKeyId();
+            if (keyId == null) {
+                return checkAlgorithm(header, configuration.getPublicKey());
+            }
+
+            final PublicKey publicKey = configuration.getPublicKeys().get(keyId);
+            if (publicKey == null) {
+                throw new SignatureException("Unknown key ID: " + keyId);
+            }
+
+            return checkAlgorithm(header, publicKey);
+        }
+
+        private static Key checkAlgorithm(final JwsHeader header, final PublicKey publicKey) {
+            final String algorithm = NostalgiaTokenSignatureAlgorithm.of(publicKey).getAlgorithm().getId();
+            if (!algorithm.equals(header.getAlgorithm())) {
+                throw new SignatureException("Unexpected algorithm: " + header.getAlgorithm());
+            }
+            return publicKey;
+        }
 
-        return UsernamePasswordAuthenticationToken.authenticated(jwt, null, authorities);
     }
+
 }
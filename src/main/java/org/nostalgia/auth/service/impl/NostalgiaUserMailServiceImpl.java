@@ -25,7 +25,7 @@ import java.util.Map;
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional
 class NostalgiaUserMailServiceImpl implements NostalgiaUserMailService {
 
     private final NostalgiaMailService mailService;
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.nostalgia.auth.model.NostalgiaIdentity;
 import org.nostalgia.auth.model.NostalgiaUser;
 import org.nostalgia.auth.model.NostalgiaUserFilter;
+import org.nostalgia.auth.model.NostalgiaUserSummary;
 import org.nostalgia.auth.model.request.NostalgiaUserListRequest;
 import org.nostalgia.auth.port.NostalgiaUserReadPort;
 import org.nostalgia.auth.service.NostalgiaUserReadService;
@@ -40,10 +41,10 @@ class NostalgiaUserReadServiceImpl implements NostalgiaUserReadService {
      * </p>
      *
      * @param listRequest the request containing pagination and filtering information.
-     * @return a paginated list of users.
+     * @return a paginated list of user summaries.
      */
     @Override
-    public NostalgiaPage<NostalgiaUser> findAll(NostalgiaUserListRequest listRequest) {
+    public NostalgiaPage<NostalgiaUserSummary> findAll(NostalgiaUserListRequest listRequest) {
 
         final NostalgiaPageable NostalgiaPageable = listRequest.getPageable();
 
@@ -14,6 +14,7 @@ import org.nostalgia.auth.util.exception.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
@@ -64,7 +65,8 @@ class NostalgiaUserUpdateServiceImpl implements NostalgiaUserUpdateService {
 
     /**
      * Activates a user by ID if the user is currently passive.
-     * This method retrieves the user by the provided ID and activates the user
+     * The transition is applied with a single conditional status update, and the user is only read
+     * to find out the reason when the transition is not applied.
      *
      * @param id The unique identifier of the user to be activated.
      * @throws NostalgiaUserNotExistByIdException if a user with the given ID does not exist.
@@ -73,20 +75,19 @@ class NostalgiaUserUpdateServiceImpl implements NostalgiaUserUpdateService {
     @Override
     public void activate(String id) {
 
-        final NostalgiaUser user = userReadPort.findById(id)
-                .orElseThrow(() -> new NostalgiaUserNotExistByIdException(id));
-
-        if (!user.isPassive()) {
-            throw new NostalgiaUserNotPassiveException(NostalgiaUserStatus.PASSIVE);
+        final boolean isActivated = userSavePort.updateStatus(id, NostalgiaUserStatus.ACTIVE, EnumSet.of(NostalgiaUserStatus.PASSIVE));
+        if (isActivated) {
+            return;
         }
 
-        user.activate();
-        userSavePort.save(user);
+        this.checkExistence(id);
+        throw new NostalgiaUserNotPassiveException(NostalgiaUserStatus.PASSIVE);
     }
 
     /**
      * Passivates (deactivates) a user by ID if the user is currently active.
-     * This method retrieves the user by the provided ID and deactivates the user.
+     * The transition is applied with a single conditional status update, and the user is only read
+     * to find out the reason when the transition is not applied.
      *
      * @param id The unique identifier of the user to be passivated.
      * @throws NostalgiaUserNotExistByIdException if a user with the given ID does not exist.
@@ -95,25 +96,22 @@ class NostalgiaUserUpdateServiceImpl implements NostalgiaUserUpdateService {
     @Override
     public void passivate(String id) {
 
-        final NostalgiaUser user = userReadPort.findById(id)
-                .orElseThrow(() -> new NostalgiaUserNotExistByIdException(id));
-
-        if (!user.isActive()) {
-            throw new NostalgiaUserNotActiveException(id);
+        final boolean isPassivated = userSavePort.updateStatus(id, NostalgiaUserStatus.PASSIVE, EnumSet.of(NostalgiaUserStatus.ACTIVE));
+        if (isPassivated) {
+            return;
         }
 
-        user.passivate();
-        userSavePort.save(user);
+        this.checkExistence(id);
+        throw new NostalgiaUserNotActiveException(id);
     }
 
 
     /**
      * Deletes a user account by its ID.
      * <p>
-     * This method retrieves a user by the given ID and ensures the user's institution ID
-     * matches the identity's institution ID. If the user is already marked as deleted,
-     * an {@link NostalgiaUserAlreadyDeletedException} is thrown. Otherwise, the user's status
-     * is set to deleted and the changes are saved.
+     * The user's status is set to deleted with a single conditional status update. If the update is not applied,
+     * the user is read to find out whether it does not exist, or it is already marked as deleted, in which case
+     * an {@link NostalgiaUserAlreadyDeletedException} is thrown.
      * </p>
      *
      * @param id The ID of the user to delete.
@@ -123,15 +121,27 @@ class NostalgiaUserUpdateServiceImpl implements NostalgiaUserUpdateService {
     @Override
     public void delete(final String id) {
 
-        final NostalgiaUser user = userReadPort.findById(id)
-                .orElseThrow(() -> new NostalgiaUserNotExistByIdException(id));
-
-        if (user.isDeleted()) {
-            throw new NostalgiaUserAlreadyDeletedException(id);
+        final boolean isDeleted = userSavePort.updateStatus(id, NostalgiaUserStatus.DELETED, EnumSet.complementOf(EnumSet.of(NostalgiaUserStatus.DELETED)));
+        if (isDeleted) {
+            return;
         }
 
-        user.delete();
-        userSavePort.save(user);
+        this.checkExistence(id);
+        throw new NostalgiaUserAlreadyDeletedException(id);
+    }
+
+
+    /**
+     * Checks the existence of the user after a status transition is not applied, to tell a missing user
+     * apart from a user in another status.
+     *
+     * @param id The ID of the user.
+     * @throws NostalgiaUserNotExistByIdException if a user with the given ID does not exist.
+     */
+    private void checkExistence(final String id) {
+        if (userReadPort.findById(id).isEmpty()) {
+            throw new NostalgiaUserNotExistByIdException(id);
+        }
     }
 
 
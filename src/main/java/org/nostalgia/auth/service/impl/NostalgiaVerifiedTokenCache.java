@@ -0,0 +1,155 @@
+package org.nostalgia.auth.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.auth.model.NostalgiaParsedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size-bounded cache of already verified tokens which sits in front of the JWT signature verification.
+ * <p>
+ * Entries are keyed by the signature part of the JWT and hold the {@link NostalgiaParsedToken} built on the first
+ * verification, so that a cache hit skips parsing and hands back the prebuilt authentication. Each entry expires
+ * no later than the expiration time of its own token, and entries are dropped as soon as their tokens are invalidated.
+ * </p>
+ * <p>
+ * Hit, miss and eviction counts are published through Micrometer under the {@value #CACHE_NAME} cache name.
+ * A maximum size of zero disables the cache.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaVerifiedTokenCache {
+
+    private static final String CACHE_NAME = "nostalgia.token.verified";
+
+    private final Cache<String, CachedToken> cache;
+
+    NostalgiaVerifiedTokenCache(@Value("${nostalgia.token.verified-cache.maximum-size:10000}") final long maximumSize,
+                                final MeterRegistry meterRegistry) {
+
+        if (maximumSize <= 0) {
+            log.info("Verified token cache is disabled.");
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the previously verified token for the given JWT.
+     * <p>
+     * The whole JWT is compared with the cached one, so a valid signature attached to a different
+     * header or payload is never served from the cache.
+     * </p>
+     *
+     * @param token the JWT as a {@link String}
+     * @return the cached {@link NostalgiaParsedToken}, or {@code null} if the token is not cached
+     */
+    NostalgiaParsedToken get(final String token) {
+
+        if (this.cache == null) {
+            return null;
+        }
+
+        final CachedToken cachedToken = this.cache.getIfPresent(getSignature(token));
+        if (cachedToken == null || !cachedToken.getToken().equals(token)) {
+            return null;
+        }
+
+        return cachedToken.getParsedToken();
+    }
+
+    /**
+     * Caches the given verified token until its expiration time.
+     *
+     * @param token       the JWT as a {@link String}
+     * @param parsedToken the verified and parsed token
+     */
+    void put(final String token, final NostalgiaParsedToken parsedToken) {
+
+        if (this.cache == null) {
+            return;
+        }
+
+        this.cache.put(getSignature(token), new CachedToken(token, parsedToken));
+    }
+
+    /**
+     * Drops the cached tokens which have one of the given token IDs.
+     *
+     * @param tokenIds the IDs of the invalidated tokens
+     */
+    void evictAll(final Set<String> tokenIds) {
+
+        if (this.cache == null) {
+            return;
+        }
+
+        this.cache.asMap().values()
+                .removeIf(cachedToken -> tokenIds.contains(cachedToken.getParsedToken().getId()));
+    }
+
+    private static String getSignature(final String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+
+    /**
+     * A cached token together with the JWT it was parsed from.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class CachedToken {
+
+        private final String token;
+        private final NostalgiaParsedToken parsedToken;
+
+    }
+
+
+    /**
+     * Expires each cached token at the expiration time of the token itself.
+     */
+    private static class TokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(final String signature, final CachedToken cachedToken, final long currentTime) {
+            final Instant expiresAt = cachedToken.getParsedToken().getJwt().getExpiresAt();
+            final long remainingMillis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String signature, final CachedToken cachedToken,
+                                      final long currentTime, final long currentDuration) {
+            return this.expireAfterCreate(signature, cachedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String signature, final CachedToken cachedToken,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -3,6 +3,7 @@ package org.nostalgia.auth.util;
 import lombok.experimental.UtilityClass;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.PEMParser;
 import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
 import org.nostalgia.auth.util.exception.NostalgiaKeyReadException;
@@ -20,6 +21,7 @@ public class NostalgiaKeyConverter {
 
     /**
      * Converts an encrypted private key in PEM format to a Java PrivateKey object.
+     * Both PKCS#8 ({@code PRIVATE KEY}) and PKCS#1 ({@code RSA PRIVATE KEY}) encodings are accepted.
      *
      * @param encryptedPrivateKeyPem the encrypted private key in PEM format.
      * @return the corresponding Java PrivateKey object.
@@ -30,8 +32,10 @@ public class NostalgiaKeyConverter {
         final String formattedPrivateKeyPem = decryptedPrivateKeyPem.replace("             ", "\n");
         StringReader keyReader = new StringReader(formattedPrivateKeyPem);
         try {
-            PrivateKeyInfo privateKeyInfo = PrivateKeyInfo
-                    .getInstance(new PEMParser(keyReader).readObject());
+            final Object pemObject = new PEMParser(keyReader).readObject();
+            final PrivateKeyInfo privateKeyInfo = pemObject instanceof PEMKeyPair pemKeyPair
+                    ? pemKeyPair.getPrivateKeyInfo()
+                    : PrivateKeyInfo.getInstance(pemObject);
             return new JcaPEMKeyConverter().getPrivateKey(privateKeyInfo);
         } catch (IOException exception) {
             throw new NostalgiaKeyReadException(exception);
@@ -0,0 +1,25 @@
+package org.nostalgia.auth.util.exception;
+
+import org.nostalgia.common.util.exception.NostalgiaServiceUnavailableException;
+
+import java.io.Serial;
+
+/**
+ * Exception to be thrown when a password verification is rejected because the password hashing capacity is exceeded.
+ */
+public final class NostalgiaPasswordVerificationRejectedException extends NostalgiaServiceUnavailableException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = 2915484532760379211L;
+
+    /**
+     * Constructs a new {@link NostalgiaPasswordVerificationRejectedException} with a default error message.
+     */
+    public NostalgiaPasswordVerificationRejectedException() {
+        super("password verification capacity is exceeded!");
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.nostalgia.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+import org.nostalgia.common.model.NostalgiaSearchSpecification;
+
+/**
+ * Registers the SQL functions which are not known by Hibernate, so that they can be used in the criteria queries.
+ * <p>
+ * {@value NostalgiaSearchSpecification#MATCH_AGAINST_FUNCTION} renders the MySQL boolean mode full-text search
+ * {@code MATCH(column) AGAINST(query IN BOOLEAN MODE)}, which evaluates to the relevance of the row.
+ * It is registered through {@code META-INF/services}, since the functions are needed before the application context.
+ * </p>
+ */
+public class NostalgiaHibernateFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                NostalgiaSearchSpecification.MATCH_AGAINST_FUNCTION,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+
+}
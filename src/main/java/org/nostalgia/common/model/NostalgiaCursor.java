@@ -0,0 +1,201 @@
+package org.nostalgia.common.model;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.nostalgia.common.util.exception.NostalgiaCursorNotValidException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Continuation token of the keyset pagination, which holds the sort key of the last row of a page.
+ * <p>
+ * The sort key consists of the values of the sort properties, ending with the ID of the row as the tie-breaker,
+ * so the next page continues right after the last row without an offset. A cursor is encoded as an opaque
+ * Base64URL token, and only accepted with the sort it was created for.
+ * </p>
+ * <p>
+ * The sort properties must not be nullable, since a {@code null} value can not be compared with the following rows.
+ * </p>
+ *
+ * @see NostalgiaPageable#toKeysetSort()
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class NostalgiaCursor {
+
+    /**
+     * The sort properties of the cursor, in the order of the sort.
+     */
+    private final List<String> properties;
+
+    /**
+     * The values of the sort properties of the last row, in the order of the properties.
+     */
+    private final List<String> values;
+
+    /**
+     * Creates the cursor which continues after the given row.
+     *
+     * @param sort the keyset sort of the page
+     * @param row  the last row of the page, whose properties are read through their getters
+     * @return the cursor of the row
+     */
+    public static NostalgiaCursor of(final Sort sort, final Object row) {
+
+        final BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        final List<String> properties = new ArrayList<>();
+        final List<String> values = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            final Object value = wrapper.getPropertyValue(order.getProperty());
+            if (value == null) {
+                throw new IllegalArgumentException("Keyset sort property is null: " + order.getProperty());
+            }
+            properties.add(order.getProperty());
+            values.add(value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+        }
+
+        return new NostalgiaCursor(List.copyOf(properties), List.copyOf(values));
+    }
+
+    /**
+     * Decodes the given token into a cursor.
+     *
+     * @param token the token to decode
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static NostalgiaCursor decode(final String token) {
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            final int size = input.readUnsignedByte();
+            final List<String> properties = new ArrayList<>(size);
+            final List<String> values = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                properties.add(input.readUTF());
+                values.add(input.readUTF());
+            }
+            if (input.available() > 0) {
+                throw new IllegalArgumentException("Cursor has trailing bytes");
+            }
+            return new NostalgiaCursor(List.copyOf(properties), List.copyOf(values));
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Cursor is malformed", exception);
+        }
+    }
+
+    /**
+     * Encodes the cursor into an opaque token.
+     *
+     * @return the encoded token
+     */
+    public String encode() {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(this.properties.size());
+            for (int index = 0; index < this.properties.size(); index++) {
+                output.writeUTF(this.properties.get(index));
+                output.writeUTF(this.values.get(index));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Checks whether the cursor is created for the given sort.
+     *
+     * @param sort the keyset sort of the page
+     * @return {@code true} if the cursor has the properties of the sort in the same order, otherwise {@code false}
+     */
+    public boolean isCreatedFor(final Sort sort) {
+        return this.properties.equals(sort.stream().map(Sort.Order::getProperty).toList());
+    }
+
+    /**
+     * Converts the cursor into a {@link Specification} which matches the rows after the cursor in the given sort.
+     * <p>
+     * For the sort {@code (a, b, id)}, the rows after the cursor are matched with
+     * {@code a > :a OR (a = :a AND b > :b) OR (a = :a AND b = :b AND id > :id)},
+     * where {@code >} is {@code <} for the descending properties.
+     * </p>
+     * <p>
+     * The values are converted to the types of the entity properties when the query is built, and a value which
+     * can not be converted fails the query with a {@link NostalgiaCursorNotValidException}.
+     * </p>
+     *
+     * @param sort the keyset sort the cursor is created for
+     * @param <E>  the type of the entity
+     * @return the {@link Specification} of the rows after the cursor
+     */
+    public <E> Specification<E> toSpecification(final Sort sort) {
+
+        final List<Sort.Order> orders = sort.toList();
+        return (root, query, criteriaBuilder) -> {
+
+            final List<Predicate> predicates = new ArrayList<>(orders.size());
+            final List<Predicate> equalities = new ArrayList<>(orders.size());
+            for (int index = 0; index < orders.size(); index++) {
+
+                final Sort.Order order = orders.get(index);
+                final Path<Comparable<Object>> path = root.get(order.getProperty());
+                final Comparable<Object> value = this.getValue(index, order.getProperty(), path.getJavaType());
+
+                final Predicate after = order.isAscending()
+                        ? criteriaBuilder.greaterThan(path, value)
+                        : criteriaBuilder.lessThan(path, value);
+
+                final List<Predicate> conjunction = new ArrayList<>(equalities);
+                conjunction.add(after);
+                predicates.add(criteriaBuilder.and(conjunction.toArray(Predicate[]::new)));
+
+                equalities.add(criteriaBuilder.equal(path, value));
+            }
+
+            return criteriaBuilder.or(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Converts the value at the given index to the type of its sort property.
+     *
+     * @throws NostalgiaCursorNotValidException if the value can not be converted, since the cursor is tampered or stale
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparable<Object> getValue(final int index, final String property, final Class<?> type) {
+
+        final String value = this.values.get(index);
+        try {
+            if (type.isEnum()) {
+                return (Comparable<Object>) Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+            if (LocalDateTime.class.equals(type)) {
+                return (Comparable<Object>) (Comparable) LocalDateTime.parse(value);
+            }
+            return (Comparable<Object>) DefaultConversionService.getSharedInstance().convert(value, type);
+        } catch (IllegalArgumentException | DateTimeException | ConversionException exception) {
+            throw new NostalgiaCursorNotValidException(property, value);
+        }
+    }
+
+}
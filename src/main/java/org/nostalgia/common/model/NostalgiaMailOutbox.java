@@ -0,0 +1,26 @@
+package org.nostalgia.common.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.nostalgia.common.model.enums.NostalgiaMailOutboxStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a {@link NostalgiaMail} waiting in the outbox to be delivered, along with its delivery attempts.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@EqualsAndHashCode(callSuper = true)
+public class NostalgiaMailOutbox extends BaseDomainModel {
+
+    private Long id;
+    private NostalgiaMail mail;
+    private NostalgiaMailOutboxStatus status;
+    private int attemptCount;
+    private LocalDateTime nextAttemptAt;
+
+}
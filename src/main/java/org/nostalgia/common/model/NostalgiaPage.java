@@ -4,8 +4,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * A generic class representing a paginated response containing a list of content items of type R.
@@ -53,6 +56,16 @@ public class NostalgiaPage<R> {
      */
     private NostalgiaFilter filteredBy;
 
+    /**
+     * Whether there is a next page in the offset pagination.
+     */
+    private Boolean hasNextPage;
+
+    /**
+     * The cursor of the next page in the keyset pagination, or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+
     /**
      * Creates a new paginated response of type C from a Spring {@link Page} object.
      *
@@ -99,6 +112,7 @@ public class NostalgiaPage<R> {
                 .pageSize(content.size())
                 .totalPageCount(pageableEntities.getTotalPages())
                 .totalElementCount(pageableEntities.getTotalElements())
+                .hasNextPage(pageableEntities.hasNext())
                 .filteredBy(filter);
 
         if (pageableEntities.getSort().isSorted()) {
@@ -107,4 +121,72 @@ public class NostalgiaPage<R> {
 
         return responseBuilder.build();
     }
+
+    /**
+     * Creates a new paginated response of type C from a Spring {@link Slice} object with filtering, without the totals.
+     *
+     * @param filter         The filtering parameters to be included in the response.
+     * @param slicedEntities The Spring {@link Slice} object containing the page information.
+     * @param content        The content items to be included in the response.
+     * @param <E>            The type of entities in the Spring {@link Slice} object.
+     * @param <C>            The type of content items in the response.
+     * @return The paginated response.
+     */
+    public static <E, C> NostalgiaPage<C> of(final NostalgiaFilter filter,
+                                             final Slice<E> slicedEntities,
+                                             final List<C> content) {
+
+        final var responseBuilder = NostalgiaPage.<C>builder()
+                .content(content)
+                .pageNumber(slicedEntities.getNumber() + 1)
+                .pageSize(content.size())
+                .hasNextPage(slicedEntities.hasNext())
+                .filteredBy(filter);
+
+        if (slicedEntities.getSort().isSorted()) {
+            responseBuilder.orderedBy(NostalgiaSort.of(slicedEntities.getSort()).getOrders());
+        }
+
+        return responseBuilder.build();
+    }
+
+    /**
+     * Creates a new keyset paginated response of type C from the rows of a page.
+     * <p>
+     * The rows are expected to be queried in the keyset sort of the pageable, with one more row than the page size.
+     * That additional row is not included in the response, and only signals that there is a next page,
+     * whose cursor is created from the last row of this page. The totals are not counted in the keyset pagination.
+     * </p>
+     *
+     * @param filter   The filtering parameters to be included in the response.
+     * @param pageable The keyset pageable of the page.
+     * @param rows     The rows of the page, with the additional row if there is a next page.
+     * @param mapper   The mapper of the rows of this page to the content items.
+     * @param <E>      The type of the rows.
+     * @param <C>      The type of content items in the response.
+     * @return The paginated response.
+     */
+    public static <E, C> NostalgiaPage<C> of(final NostalgiaFilter filter,
+                                             final NostalgiaPageable pageable,
+                                             final List<E> rows,
+                                             final Function<List<E>, List<C>> mapper) {
+
+        final Sort sort = pageable.toKeysetSort();
+        final boolean hasNextPage = rows.size() > pageable.getPageSize();
+        final List<E> pageRows = hasNextPage ? rows.subList(0, pageable.getPageSize()) : rows;
+        final List<C> content = mapper.apply(pageRows);
+
+        final var responseBuilder = NostalgiaPage.<C>builder()
+                .content(content)
+                .pageSize(content.size())
+                .orderedBy(NostalgiaSort.of(sort).getOrders())
+                .filteredBy(filter);
+
+        if (hasNextPage) {
+            responseBuilder.nextCursor(NostalgiaCursor.of(sort, pageRows.get(pageRows.size() - 1)).encode());
+        }
+
+        return responseBuilder.build();
+    }
+
 }
@@ -1,5 +1,7 @@
 package org.nostalgia.common.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,8 +9,11 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.collections4.CollectionUtils;
 import org.hibernate.validator.constraints.Range;
+import org.nostalgia.common.model.enums.NostalgiaPaginationMode;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 /**
  * The class `Paging` is a data model used for pagination operations. It includes essential
@@ -19,6 +24,9 @@ import org.springframework.data.domain.Pageable;
  * <p>
  * Note: This class is designed to assist in proper pagination operations and can be used
  * to ensure that parameters like page number or page size stay within certain bounds.
+ * <p>
+ * In the {@link NostalgiaPaginationMode#KEYSET} mode, the pages are addressed by a {@link NostalgiaCursor} instead of
+ * the page number, so deep pages are read with an index seek instead of skipping all the previous rows.
  */
 @Getter
 @Setter
@@ -27,12 +35,14 @@ import org.springframework.data.domain.Pageable;
 @NoArgsConstructor
 public class NostalgiaPageable extends NostalgiaSort {
 
+    private static final String KEYSET_TIE_BREAKER = "id";
+
     /**
      * Represents the page number.
-     * This value should be between 1 and 99999999.
+     * This value should be between 1 and 99999999, and is only used in the {@link NostalgiaPaginationMode#OFFSET} mode.
      */
     @Range(min = 1, max = 99999999)
-    private int page;
+    private Integer page;
 
     /**
      * Represents the page size.
@@ -41,6 +51,74 @@ public class NostalgiaPageable extends NostalgiaSort {
     @Range(min = 1, max = 99999999)
     private int pageSize;
 
+    /**
+     * Represents the pagination mode, which is {@link NostalgiaPaginationMode#OFFSET} if not specified.
+     */
+    private NostalgiaPaginationMode mode;
+
+    /**
+     * Represents the {@link NostalgiaCursor} token of the previous page in the {@link NostalgiaPaginationMode#KEYSET} mode,
+     * which is not specified for the first page.
+     */
+    private String cursor;
+
+    /**
+     * Represents whether the totals are counted in the {@link NostalgiaPaginationMode#OFFSET} mode,
+     * which is {@code true} if not specified. Without the totals, the page only tells whether there is a next page.
+     */
+    private Boolean includeTotals;
+
+    /**
+     * Checks whether the pageable is in the {@link NostalgiaPaginationMode#KEYSET} mode.
+     *
+     * @return {@code true} if the pageable is in the keyset mode, otherwise {@code false}
+     */
+    @JsonIgnore
+    public boolean isKeyset() {
+        return this.mode == NostalgiaPaginationMode.KEYSET;
+    }
+
+    /**
+     * Checks whether the totals are counted for the page.
+     *
+     * @return {@code true} if the totals are counted, otherwise {@code false}
+     */
+    @JsonIgnore
+    public boolean isTotalsIncluded() {
+        return !this.isKeyset() && !Boolean.FALSE.equals(this.includeTotals);
+    }
+
+    /**
+     * Validates that the page number is specified in the offset mode, and the cursor is a valid cursor
+     * of the sort in the keyset mode.
+     *
+     * @return {@code true} if the page number and the cursor are accepted, otherwise {@code false}
+     */
+    @JsonIgnore
+    @AssertTrue
+    public boolean isPositionAccepted() {
+
+        if (!this.isKeyset()) {
+            return this.page != null && this.cursor == null;
+        }
+
+        if (this.cursor == null) {
+            return true;
+        }
+
+        final boolean isAnyOrderEmpty = CollectionUtils.isNotEmpty(this.getOrders()) && this.getOrders().stream()
+                .anyMatch(order -> order.getProperty() == null || order.getDirection() == null);
+        if (isAnyOrderEmpty) {
+            return true;
+        }
+
+        try {
+            return NostalgiaCursor.decode(this.cursor).isCreatedFor(this.toKeysetSort());
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
     /**
      * Converts the pagination parameters of this request to a Spring {@link Pageable} object.
      *
@@ -62,4 +140,36 @@ public class NostalgiaPageable extends NostalgiaSort {
         );
     }
 
+    /**
+     * Converts the orders of this request to the {@link Sort} of the keyset pagination,
+     * which always ends with the {@value #KEYSET_TIE_BREAKER} property to make the order of the rows unique.
+     *
+     * @return the keyset {@link Sort}
+     */
+    public Sort toKeysetSort() {
+
+        final Sort sort = CollectionUtils.isNotEmpty(this.getOrders()) ? this.toSort() : Sort.unsorted();
+        if (sort.getOrderFor(KEYSET_TIE_BREAKER) != null) {
+            return sort;
+        }
+
+        return sort.and(Sort.by(Sort.Direction.ASC, KEYSET_TIE_BREAKER));
+    }
+
+    /**
+     * Converts the cursor of this request to a {@link Specification} which matches the rows after the cursor,
+     * or matches all rows for the first page.
+     *
+     * @param <E> the type of the entity
+     * @return the {@link Specification} of the rows of the page
+     */
+    public <E> Specification<E> toKeysetSpecification() {
+
+        if (this.cursor == null) {
+            return Specification.where(null);
+        }
+
+        return NostalgiaCursor.decode(this.cursor).toSpecification(this.toKeysetSort());
+    }
+
 }
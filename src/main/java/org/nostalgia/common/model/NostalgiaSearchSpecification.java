@@ -0,0 +1,73 @@
+package org.nostalgia.common.model;
+
+import lombok.experimental.UtilityClass;
+import org.nostalgia.common.model.enums.NostalgiaSearchMode;
+import org.nostalgia.common.util.NostalgiaSearchUtil;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * This utility class builds the cheapest {@link Specification} which matches a text field of a filter
+ * against the normalized search column of the field.
+ * <p>
+ * The value is normalized with {@link NostalgiaSearchUtil#normalize(String)}, so no function is applied to the column
+ * and its index stays usable:
+ * </p>
+ * <ul>
+ *     <li>{@link NostalgiaSearchMode#PREFIX} is matched with {@code LIKE 'value%'}, which is an index range scan</li>
+ *     <li>{@link NostalgiaSearchMode#CONTAINS} is matched with {@code LIKE '%value%'}</li>
+ *     <li>{@link NostalgiaSearchMode#FULLTEXT} is matched with {@code MATCH ... AGAINST} on the columns with a full-text
+ *     index, and falls back to {@code LIKE '%value%'} for the other columns or values without an indexable word</li>
+ * </ul>
+ */
+@UtilityClass
+public class NostalgiaSearchSpecification {
+
+    /**
+     * The name of the function which renders a MySQL boolean mode {@code MATCH ... AGAINST} expression.
+     */
+    public static final String MATCH_AGAINST_FUNCTION = "match_against";
+
+    private static final char ESCAPE_CHARACTER = '!';
+
+    /**
+     * Builds the {@link Specification} which matches the given value against the given search column.
+     *
+     * @param searchAttribute   the attribute of the normalized search column
+     * @param value             the value to match
+     * @param mode              the search mode, {@link NostalgiaSearchMode#CONTAINS} if {@code null}
+     * @param isFullTextIndexed whether the search column has a full-text index
+     * @param <E>               the type of the entity
+     * @return the {@link Specification} of the value
+     */
+    public static <E> Specification<E> of(final String searchAttribute,
+                                          final String value,
+                                          final NostalgiaSearchMode mode,
+                                          final boolean isFullTextIndexed) {
+
+        final String normalizedValue = NostalgiaSearchUtil.normalize(value);
+
+        if (mode == NostalgiaSearchMode.PREFIX) {
+            return (root, query, criteriaBuilder) -> criteriaBuilder
+                    .like(root.get(searchAttribute), escape(normalizedValue) + "%", ESCAPE_CHARACTER);
+        }
+
+        final String fullTextQuery = NostalgiaSearchUtil.toFullTextQuery(normalizedValue);
+        if (mode == NostalgiaSearchMode.FULLTEXT && isFullTextIndexed && fullTextQuery != null) {
+            return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(
+                    criteriaBuilder.function(MATCH_AGAINST_FUNCTION, Double.class, root.get(searchAttribute), criteriaBuilder.literal(fullTextQuery)),
+                    0.0
+            );
+        }
+
+        return (root, query, criteriaBuilder) -> criteriaBuilder
+                .like(root.get(searchAttribute), "%" + escape(normalizedValue) + "%", ESCAPE_CHARACTER);
+    }
+
+    private static String escape(final String value) {
+        return value
+                .replace(String.valueOf(ESCAPE_CHARACTER), String.valueOf(ESCAPE_CHARACTER) + ESCAPE_CHARACTER)
+                .replace("%", ESCAPE_CHARACTER + "%")
+                .replace("_", ESCAPE_CHARACTER + "_");
+    }
+
+}
@@ -65,12 +65,7 @@ public abstract class BaseEntity {
 
     @PrePersist
     public void prePersist() {
-        this.createdUser = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
-                .map(Authentication::getPrincipal)
-                .filter(user -> !"anonymousUser".equals(user))
-                .map(Jwt.class::cast)
-                .map(jwt -> jwt.getClaim(NostalgiaTokenClaims.USER_EMAIL_ADDRESS.getValue()).toString())
-                .orElse("Nostalgia");
+        this.createdUser = resolveCurrentUser();
         this.createdAt = Optional.ofNullable(this.createdAt)
                 .orElse(LocalDateTime.now());
     }
@@ -84,13 +79,25 @@ public abstract class BaseEntity {
 
     @PreUpdate
     public void preUpdate() {
-        this.updatedUser = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+        this.updatedUser = resolveCurrentUser();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+
+    /**
+     * Resolves the auditing user of the current request, which is the email address of the authenticated user,
+     * or {@code Nostalgia} for the requests without an authenticated user.
+     * It is also used to fill the auditing fields of the bulk updates, which bypass the lifecycle hooks.
+     *
+     * @return the auditing user
+     */
+    public static String resolveCurrentUser() {
+        return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
                 .map(Authentication::getPrincipal)
                 .filter(user -> !"anonymousUser".equals(user))
                 .map(Jwt.class::cast)
                 .map(jwt -> jwt.getClaim(NostalgiaTokenClaims.USER_EMAIL_ADDRESS.getValue()).toString())
                 .orElse("Nostalgia");
-        this.updatedAt = LocalDateTime.now();
     }
 
 }
@@ -0,0 +1,67 @@
+package org.nostalgia.common.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.nostalgia.common.model.enums.NostalgiaMailOutboxStatus;
+import org.nostalgia.common.model.enums.NostalgiaMailTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * A JPA entity class that represents a mail waiting in the outbox to be delivered.
+ * The recipients and the parameters of the mail are stored as JSON documents.
+ */
+@Entity
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "NOSTALGIA_MAIL_OUTBOX")
+public class NostalgiaMailOutboxEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "ID")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TEMPLATE")
+    private NostalgiaMailTemplate template;
+
+    @Column(name = "RECIPIENTS")
+    private String recipients;
+
+    @Column(name = "PARAMETERS")
+    private String parameters;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS")
+    private NostalgiaMailOutboxStatus status;
+
+    @Column(name = "ATTEMPT_COUNT")
+    private int attemptCount;
+
+    @Column(name = "NEXT_ATTEMPT_AT")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "LAST_ERROR")
+    private String lastError;
+
+    @Column(name = "SENT_AT")
+    private LocalDateTime sentAt;
+
+}
@@ -0,0 +1,23 @@
+package org.nostalgia.common.model.enums;
+
+/**
+ * Enumeration of the delivery statuses of a mail in the outbox.
+ */
+public enum NostalgiaMailOutboxStatus {
+
+    /**
+     * The mail is waiting for its next delivery attempt.
+     */
+    PENDING,
+
+    /**
+     * The mail is delivered to the SMTP server.
+     */
+    SENT,
+
+    /**
+     * The mail could not be delivered within the maximum number of attempts, and is not retried anymore.
+     */
+    FAILED
+
+}
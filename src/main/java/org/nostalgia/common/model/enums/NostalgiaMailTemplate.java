@@ -7,8 +7,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum NostalgiaMailTemplate {
 
-    CREATE_PASSWORD("create-password.html");
+    CREATE_PASSWORD("create-password.html", true);
 
     private final String file;
 
+    /**
+     * Whether the parameter values are HTML escaped when they are written into the template.
+     */
+    private final boolean htmlEscaped;
+
 }
@@ -0,0 +1,18 @@
+package org.nostalgia.common.model.enums;
+
+/**
+ * Enumeration of the pagination modes of a list request.
+ */
+public enum NostalgiaPaginationMode {
+
+    /**
+     * Pages are addressed by their number, and the totals are counted for every page.
+     */
+    OFFSET,
+
+    /**
+     * Pages are addressed by a cursor which continues after the last row of the previous page, without counting the totals.
+     */
+    KEYSET
+
+}
@@ -0,0 +1,24 @@
+package org.nostalgia.common.model.enums;
+
+/**
+ * Enumeration of the matching modes of the text fields of a filter.
+ */
+public enum NostalgiaSearchMode {
+
+    /**
+     * The value matches the beginning of the text, which is served by the index of the search column.
+     */
+    PREFIX,
+
+    /**
+     * The value matches any part of the text, which scans the search column.
+     */
+    CONTAINS,
+
+    /**
+     * The words of the value match the beginnings of the words of the text, which is served by the MySQL full-text
+     * index of the search column. The fields without a full-text index are matched as {@link #CONTAINS}.
+     */
+    FULLTEXT
+
+}
@@ -118,7 +118,11 @@ public class NostalgiaErrorResponse {
         /**
          * AUTH_ERROR header.
          */
-        AUTH_ERROR("AUTH ERROR");
+        AUTH_ERROR("AUTH ERROR"),
+        /**
+         * SERVICE_UNAVAILABLE header.
+         */
+        SERVICE_UNAVAILABLE("SERVICE UNAVAILABLE");
 
         /**
          * The name of the header.
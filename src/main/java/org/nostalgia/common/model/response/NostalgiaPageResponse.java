@@ -1,5 +1,6 @@
 package org.nostalgia.common.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.nostalgia.common.model.NostalgiaFilter;
@@ -25,6 +26,7 @@ public class NostalgiaPageResponse<R> {
     /**
      * The current page number.
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Integer pageNumber;
 
     /**
@@ -35,11 +37,13 @@ public class NostalgiaPageResponse<R> {
     /**
      * The total number of pages.
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Integer totalPageCount;
 
     /**
      * The total number of elements across all pages.
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Long totalElementCount;
 
     /**
@@ -52,6 +56,18 @@ public class NostalgiaPageResponse<R> {
      */
     private NostalgiaFilter filteredBy;
 
+    /**
+     * Whether there is a next page in the offset pagination.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNextPage;
+
+    /**
+     * The cursor of the next page in the keyset pagination, which is returned instead of the totals.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
 
     /**
      * Builder class for constructing instances of {@link NostalgiaPageResponse}.
@@ -74,7 +90,9 @@ public class NostalgiaPageResponse<R> {
                     .totalPageCount(page.getTotalPageCount())
                     .totalElementCount(page.getTotalElementCount())
                     .orderedBy(page.getOrderedBy())
-                    .filteredBy(page.getFilteredBy());
+                    .filteredBy(page.getFilteredBy())
+                    .hasNextPage(page.getHasNextPage())
+                    .nextCursor(page.getNextCursor());
         }
     }
 }
@@ -0,0 +1,72 @@
+package org.nostalgia.common.port;
+
+import org.nostalgia.common.model.NostalgiaMail;
+import org.nostalgia.common.model.NostalgiaMailOutbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A port interface for the outbox of the mails waiting to be delivered.
+ * <p>
+ * A mail is added to the outbox in the transaction of the change it is sent for, so that it is delivered
+ * if and only if the change is committed. The dispatchers claim the due mails for a lease, deliver them
+ * and mark them as sent, or schedule their next attempts. The sent mails are deleted once their retention passes.
+ * </p>
+ */
+public interface NostalgiaMailOutboxPort {
+
+    /**
+     * Adds the given {@link NostalgiaMail} to the outbox, to be delivered as soon as possible.
+     *
+     * @param mail The {@link NostalgiaMail} to be delivered.
+     */
+    void save(NostalgiaMail mail);
+
+    /**
+     * Claims at most the given number of due {@link NostalgiaMailOutbox} instances, ordered by their IDs, by moving their
+     * next attempts after the given lease, so that they are not claimed again unless the lease expires.
+     *
+     * @param limit The maximum number of {@link NostalgiaMailOutbox} instances to claim.
+     * @param lease The duration the claimed {@link NostalgiaMailOutbox} instances are reserved for.
+     * @return A list of the claimed {@link NostalgiaMailOutbox} instances.
+     */
+    List<NostalgiaMailOutbox> claim(int limit, Duration lease);
+
+    /**
+     * Marks the {@link NostalgiaMailOutbox} instances with the given IDs as sent.
+     *
+     * @param ids The IDs of the delivered {@link NostalgiaMailOutbox} instances.
+     */
+    void markAllSent(Set<Long> ids);
+
+    /**
+     * Records a failed attempt of the {@link NostalgiaMailOutbox} with the given ID, and schedules its next attempt.
+     *
+     * @param id            The ID of the {@link NostalgiaMailOutbox}.
+     * @param nextAttemptAt The time of the next attempt.
+     * @param error         The error of the failed attempt.
+     */
+    void markRetried(Long id, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Records the last failed attempt of the {@link NostalgiaMailOutbox} with the given ID, which is not attempted anymore.
+     *
+     * @param id    The ID of the {@link NostalgiaMailOutbox}.
+     * @param error The error of the failed attempt.
+     */
+    void markFailed(Long id, String error);
+
+    /**
+     * Deletes at most the given number of {@link NostalgiaMailOutbox} instances which were sent before the specified
+     * threshold, and commits the deletion.
+     *
+     * @param sentAtThreshold The timestamp threshold before which sent {@link NostalgiaMailOutbox} instances will be deleted.
+     * @param chunkSize       The maximum number of {@link NostalgiaMailOutbox} instances to delete.
+     * @return The number of deleted {@link NostalgiaMailOutbox} instances.
+     */
+    int deleteAllSentBefore(LocalDateTime sentAtThreshold, int chunkSize);
+
+}
@@ -0,0 +1,198 @@
+package org.nostalgia.common.port.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.nostalgia.common.model.NostalgiaMail;
+import org.nostalgia.common.model.NostalgiaMailOutbox;
+import org.nostalgia.common.model.entity.NostalgiaMailOutboxEntity;
+import org.nostalgia.common.model.enums.NostalgiaMailOutboxStatus;
+import org.nostalgia.common.port.NostalgiaMailOutboxPort;
+import org.nostalgia.common.repository.NostalgiaMailOutboxRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An adapter class implementing {@link NostalgiaMailOutboxPort} on the mail outbox table.
+ * The recipients and the parameters of the mails are stored as JSON documents.
+ */
+@Component
+@RequiredArgsConstructor
+class NostalgiaMailOutboxAdapter implements NostalgiaMailOutboxPort {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final TypeReference<List<String>> RECIPIENTS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Object>> PARAMETERS_TYPE = new TypeReference<>() {
+    };
+
+    private final NostalgiaMailOutboxRepository mailOutboxRepository;
+
+    private final ObjectMapper objectMapper;
+
+
+    /**
+     * Adds the given {@link NostalgiaMail} to the outbox in the current transaction, if there is one.
+     *
+     * @param mail The {@link NostalgiaMail} to be delivered.
+     */
+    @Override
+    @Transactional
+    public void save(final NostalgiaMail mail) {
+
+        final NostalgiaMailOutboxEntity mailOutboxEntity = NostalgiaMailOutboxEntity.builder()
+                .template(mail.getTemplate())
+                .recipients(this.write(mail.getTo()))
+                .parameters(this.write(mail.getParameters()))
+                .status(NostalgiaMailOutboxStatus.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        mailOutboxRepository.save(mailOutboxEntity);
+    }
+
+
+    /**
+     * Claims the due {@link NostalgiaMailOutbox} instances in a transaction of their own, which locks them
+     * only until their next attempts are moved after the lease.
+     *
+     * @param limit The maximum number of {@link NostalgiaMailOutbox} instances to claim.
+     * @param lease The duration the claimed {@link NostalgiaMailOutbox} instances are reserved for.
+     * @return A list of the claimed {@link NostalgiaMailOutbox} instances.
+     */
+    @Override
+    @Transactional
+    public List<NostalgiaMailOutbox> claim(final int limit, final Duration lease) {
+
+        final LocalDateTime now = LocalDateTime.now();
+        final List<NostalgiaMailOutboxEntity> mailOutboxEntities = mailOutboxRepository
+                .findAllByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(NostalgiaMailOutboxStatus.PENDING, now, Limit.of(limit));
+
+        mailOutboxEntities.forEach(mailOutboxEntity -> mailOutboxEntity.setNextAttemptAt(now.plus(lease)));
+
+        return mailOutboxEntities.stream()
+                .map(this::map)
+                .toList();
+    }
+
+
+    /**
+     * Marks the {@link NostalgiaMailOutbox} instances with the given IDs as sent.
+     *
+     * @param ids The IDs of the delivered {@link NostalgiaMailOutbox} instances.
+     */
+    @Override
+    @Transactional
+    public void markAllSent(final Set<Long> ids) {
+
+        final LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.findAllById(ids).forEach(mailOutboxEntity -> {
+            mailOutboxEntity.setStatus(NostalgiaMailOutboxStatus.SENT);
+            mailOutboxEntity.setAttemptCount(mailOutboxEntity.getAttemptCount() + 1);
+            mailOutboxEntity.setSentAt(now);
+        });
+    }
+
+
+    /**
+     * Records a failed attempt of the {@link NostalgiaMailOutbox} with the given ID, and schedules its next attempt.
+     *
+     * @param id            The ID of the {@link NostalgiaMailOutbox}.
+     * @param nextAttemptAt The time of the next attempt.
+     * @param error         The error of the failed attempt.
+     */
+    @Override
+    @Transactional
+    public void markRetried(final Long id, final LocalDateTime nextAttemptAt, final String error) {
+        mailOutboxRepository.findById(id).ifPresent(mailOutboxEntity -> {
+            mailOutboxEntity.setAttemptCount(mailOutboxEntity.getAttemptCount() + 1);
+            mailOutboxEntity.setNextAttemptAt(nextAttemptAt);
+            mailOutboxEntity.setLastError(StringUtils.truncate(error, MAX_ERROR_LENGTH));
+        });
+    }
+
+
+    /**
+     * Records the last failed attempt of the {@link NostalgiaMailOutbox} with the given ID.
+     *
+     * @param id    The ID of the {@link NostalgiaMailOutbox}.
+     * @param error The error of the failed attempt.
+     */
+    @Override
+    @Transactional
+    public void markFailed(final Long id, final String error) {
+        mailOutboxRepository.findById(id).ifPresent(mailOutboxEntity -> {
+            mailOutboxEntity.setStatus(NostalgiaMailOutboxStatus.FAILED);
+            mailOutboxEntity.setAttemptCount(mailOutboxEntity.getAttemptCount() + 1);
+            mailOutboxEntity.setLastError(StringUtils.truncate(error, MAX_ERROR_LENGTH));
+        });
+    }
+
+
+    /**
+     * Deletes at most the given number of {@link NostalgiaMailOutbox} instances which were sent before the specified
+     * threshold, with a single bulk statement in its own transaction.
+     *
+     * @param sentAtThreshold The timestamp threshold before which sent {@link NostalgiaMailOutbox} instances will be deleted.
+     * @param chunkSize       The maximum number of {@link NostalgiaMailOutbox} instances to delete.
+     * @return The number of deleted {@link NostalgiaMailOutbox} instances.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteAllSentBefore(final LocalDateTime sentAtThreshold, final int chunkSize) {
+        return mailOutboxRepository.deleteAllByStatusAndSentAtBefore(NostalgiaMailOutboxStatus.SENT.name(), sentAtThreshold, chunkSize);
+    }
+
+
+    private NostalgiaMailOutbox map(final NostalgiaMailOutboxEntity mailOutboxEntity) {
+
+        final NostalgiaMail mail = NostalgiaMail.builder()
+                .to(this.read(mailOutboxEntity.getRecipients(), RECIPIENTS_TYPE))
+                .template(mailOutboxEntity.getTemplate())
+                .parameters(mailOutboxEntity.getParameters() != null
+                        ? this.read(mailOutboxEntity.getParameters(), PARAMETERS_TYPE)
+                        : Map.of())
+                .build();
+
+        return NostalgiaMailOutbox.builder()
+                .id(mailOutboxEntity.getId())
+                .mail(mail)
+                .status(mailOutboxEntity.getStatus())
+                .attemptCount(mailOutboxEntity.getAttemptCount())
+                .nextAttemptAt(mailOutboxEntity.getNextAttemptAt())
+                .createdUser(mailOutboxEntity.getCreatedUser())
+                .createdAt(mailOutboxEntity.getCreatedAt())
+                .updatedUser(mailOutboxEntity.getUpdatedUser())
+                .updatedAt(mailOutboxEntity.getUpdatedAt())
+                .build();
+    }
+
+    private String write(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("Mail cannot be written into the outbox", exception);
+        }
+    }
+
+    private <T> T read(final String json, final TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Mail cannot be read from the outbox", exception);
+        }
+    }
+
+}
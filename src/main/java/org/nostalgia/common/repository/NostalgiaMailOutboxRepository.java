@@ -0,0 +1,54 @@
+package org.nostalgia.common.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.nostalgia.common.model.entity.NostalgiaMailOutboxEntity;
+import org.nostalgia.common.model.enums.NostalgiaMailOutboxStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for performing CRUD operations on {@link NostalgiaMailOutboxEntity} instances.
+ */
+public interface NostalgiaMailOutboxRepository extends JpaRepository<NostalgiaMailOutboxEntity, Long> {
+
+    /**
+     * Finds at most the specified number of mail outbox entities with the specified status whose next attempt is due,
+     * ordered by their IDs, and locks them. The rows which are already locked by another transaction are skipped,
+     * so that the dispatchers of the application nodes never wait for each other or claim the same mails.
+     *
+     * @param status        the status to search for
+     * @param nextAttemptAt the time the next attempts have to be due at
+     * @param limit         the maximum number of mail outbox entities to find
+     * @return a list of the due mail outbox entities
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<NostalgiaMailOutboxEntity> findAllByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(NostalgiaMailOutboxStatus status,
+                                                                                           LocalDateTime nextAttemptAt,
+                                                                                           Limit limit);
+
+    /**
+     * Deletes at most the specified number of mail outbox entities with the specified status which were sent before
+     * the specified date.
+     *
+     * @param status the status of the mail outbox entities to delete
+     * @param sentAt the date to search for
+     * @param limit  the maximum number of mail outbox entities to delete
+     * @return the number of deleted mail outbox entities
+     */
+    @Modifying
+    @Query(value = "DELETE FROM NOSTALGIA_MAIL_OUTBOX WHERE STATUS = :status AND SENT_AT < :sentAt LIMIT :limit", nativeQuery = true)
+    int deleteAllByStatusAndSentAtBefore(@Param("status") String status,
+                                         @Param("sentAt") LocalDateTime sentAt,
+                                         @Param("limit") int limit);
+
+}
@@ -0,0 +1,38 @@
+package org.nostalgia.common.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.common.service.NostalgiaMailService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler component for delivering the mails waiting in the outbox.
+ * <p>
+ * This component drains the outbox through the {@link NostalgiaMailService} with a fixed delay, configured by
+ * `nostalgia.mail.outbox.poll-interval`. The mails are also dispatched right after the transactions adding them
+ * are committed, so the poll only picks up the retries and the mails left by the other application nodes.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaMailOutboxDispatchScheduler {
+
+    private final NostalgiaMailService mailService;
+
+    public NostalgiaMailOutboxDispatchScheduler(NostalgiaMailService mailService) {
+
+        this.mailService = mailService;
+
+        log.info("MailOutboxDispatchScheduler is enabled.");
+    }
+
+    /**
+     * Scheduled method to deliver the mails whose attempts are due.
+     */
+    @Scheduled(initialDelayString = "${nostalgia.mail.outbox.poll-interval:5s}",
+            fixedDelayString = "${nostalgia.mail.outbox.poll-interval:5s}")
+    public void dispatchMails() {
+        mailService.dispatch();
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.nostalgia.common.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.common.service.NostalgiaMailService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Scheduler component for deleting the sent mails from the outbox based on a configured cron expression.
+ * <p>
+ * A sent mail is kept in the outbox for the retention configured by `nostalgia.scheduler.mail-outbox-purge.retention`,
+ * and is then deleted through the {@link NostalgiaMailService} in chunks, so that the outbox does not grow without bound.
+ * The failed mails are kept for inspection. The scheduler is enabled if the property
+ * `nostalgia.scheduler.mail-outbox-purge.enable` is set to `true` in the application properties.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "nostalgia.scheduler.mail-outbox-purge.enable", havingValue = "true")
+class NostalgiaMailOutboxPurgeScheduler {
+
+    private final NostalgiaMailService mailService;
+
+    private final Duration retention;
+
+    public NostalgiaMailOutboxPurgeScheduler(NostalgiaMailService mailService,
+                                             @Value("${nostalgia.scheduler.mail-outbox-purge.retention:7d}") Duration retention) {
+
+        this.mailService = mailService;
+        this.retention = retention;
+
+        log.info("MailOutboxPurgeScheduler is enabled.");
+    }
+
+    /**
+     * Scheduled method to delete the mails sent before the retention, based on the cron expression configured in
+     * `nostalgia.scheduler.mail-outbox-purge.cron`. Each chunk is committed on its own.
+     */
+    @Scheduled(cron = "${nostalgia.scheduler.mail-outbox-purge.cron}")
+    public void purgeSentMails() {
+        final LocalDateTime sentAtThreshold = LocalDateTime.now().minus(retention);
+
+        log.trace("Clearing all mails sent before {}", sentAtThreshold);
+        mailService.deleteAllSentBefore(sentAtThreshold);
+        log.trace("All mails sent before {} have been cleared", sentAtThreshold);
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.nostalgia.common.service;
+
+import org.nostalgia.common.model.NostalgiaFilter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of the approximate total counts of the paginated lists.
+ * <p>
+ * The counts are keyed by the listed type and the normalized {@link NostalgiaFilter}, so the same filter sent with
+ * its values in another order shares the count. The counts of a type are invalidated when that type is written,
+ * and otherwise expire after a while, since they are only meant to be approximate.
+ * </p>
+ */
+public interface NostalgiaCountCache {
+
+    /**
+     * Returns the cached count of the given type with the given filter, counting it with the given counter if it is
+     * not cached.
+     *
+     * @param type    the listed type
+     * @param filter  the filter of the list, or {@code null} if the list is not filtered
+     * @param counter the counter of the list
+     * @return the cached or counted count
+     */
+    long get(Class<?> type, NostalgiaFilter filter, LongSupplier counter);
+
+    /**
+     * Invalidates the cached counts of the given type, after the commit of the current transaction if there is one.
+     *
+     * @param type the written type
+     */
+    void invalidate(Class<?> type);
+
+}
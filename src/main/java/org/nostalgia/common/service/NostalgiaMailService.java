@@ -3,8 +3,28 @@ package org.nostalgia.common.service;
 
 import org.nostalgia.common.model.NostalgiaMail;
 
+import java.time.LocalDateTime;
+
 public interface NostalgiaMailService {
 
+    /**
+     * Adds the given mail to the outbox in the current transaction, so that it is delivered only if the transaction
+     * is committed, and is retried until it is delivered or runs out of attempts.
+     *
+     * @param mail the mail to be sent
+     */
     void send(NostalgiaMail mail);
 
+    /**
+     * Delivers the mails of the outbox whose attempts are due.
+     */
+    void dispatch();
+
+    /**
+     * Deletes the mails of the outbox which were sent before the specified threshold.
+     *
+     * @param sentAtThreshold the timestamp threshold before which sent mails will be deleted
+     */
+    void deleteAllSentBefore(LocalDateTime sentAtThreshold);
+
 }
@@ -0,0 +1,34 @@
+package org.nostalgia.common.service;
+
+import org.nostalgia.common.model.enums.NostalgiaMailTemplate;
+
+import java.util.Map;
+
+/**
+ * Engine of the {@link NostalgiaMailTemplate} contents.
+ * <p>
+ * The templates are HTML documents with {@code {name}} placeholders, whose {@code <title>} is the subject of the mail.
+ * They are parsed once, so that a mail is rendered without reading or searching the template again.
+ * </p>
+ */
+public interface NostalgiaMailTemplateEngine {
+
+    /**
+     * Returns the title of the given template, which is the subject of its mails.
+     *
+     * @param template the mail template
+     * @return the title of the template
+     */
+    String getTitle(NostalgiaMailTemplate template);
+
+    /**
+     * Renders the given template with the given parameters, escaping the parameter values if the template is
+     * {@link NostalgiaMailTemplate#isHtmlEscaped() HTML escaped}. The placeholders without a parameter are left as they are.
+     *
+     * @param template   the mail template
+     * @param parameters the values of the placeholders, keyed by their names
+     * @return the rendered HTML content
+     */
+    String render(NostalgiaMailTemplate template, Map<String, Object> parameters);
+
+}
@@ -0,0 +1,164 @@
+package org.nostalgia.common.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.common.model.NostalgiaFilter;
+import org.nostalgia.common.service.NostalgiaCountCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caffeine implementation of {@link NostalgiaCountCache}.
+ * <p>
+ * Each type has a generation which is part of the keys of its counts. An invalidation moves the type to the next
+ * generation, so that a count which is still being computed from the data before the write can never be served
+ * after the invalidation, and drops the counts of the previous generations.
+ * </p>
+ * <p>
+ * A filter is normalized into a JSON document with sorted properties, sorted array elements and without the
+ * {@code null} properties. Hit, miss and eviction counts are published through Micrometer under the
+ * {@value #CACHE_NAME} cache name. A maximum size of zero disables the cache.
+ * </p>
+ */
+@Slf4j
+@Service
+class NostalgiaCountCacheImpl implements NostalgiaCountCache {
+
+    private static final String CACHE_NAME = "nostalgia.page.count";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Cache<CountKey, Long> cache;
+
+    NostalgiaCountCacheImpl(@Value("${nostalgia.page.count-cache.maximum-size:1000}") final long maximumSize,
+                            @Value("${nostalgia.page.count-cache.expire-after-write:30s}") final Duration expireAfterWrite,
+                            final MeterRegistry meterRegistry) {
+
+        if (maximumSize <= 0) {
+            log.info("Page count cache is disabled.");
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    @Override
+    public long get(final Class<?> type, final NostalgiaFilter filter, final LongSupplier counter) {
+
+        if (this.cache == null) {
+            return counter.getAsLong();
+        }
+
+        final CountKey key = new CountKey(type, this.getGeneration(type).get(), this.normalize(filter));
+        return this.cache.get(key, ignored -> counter.getAsLong());
+    }
+
+    @Override
+    public void invalidate(final Class<?> type) {
+
+        if (this.cache == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.evict(type);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                NostalgiaCountCacheImpl.this.evict(type);
+            }
+        });
+    }
+
+    private void evict(final Class<?> type) {
+        final long generation = this.getGeneration(type).incrementAndGet();
+        this.cache.asMap().keySet().removeIf(key -> key.getType() == type && key.getGeneration() < generation);
+    }
+
+    private AtomicLong getGeneration(final Class<?> type) {
+        return this.generations.computeIfAbsent(type, ignored -> new AtomicLong());
+    }
+
+    private String normalize(final NostalgiaFilter filter) {
+
+        if (filter == null) {
+            return "{}";
+        }
+
+        return normalize(this.objectMapper.<JsonNode>valueToTree(filter)).toString();
+    }
+
+    private static JsonNode normalize(final JsonNode node) {
+
+        if (node instanceof ObjectNode objectNode) {
+            final Map<String, JsonNode> properties = new TreeMap<>();
+            objectNode.fields().forEachRemaining(property -> {
+                if (!property.getValue().isNull()) {
+                    properties.put(property.getKey(), normalize(property.getValue()));
+                }
+            });
+            final ObjectNode normalizedNode = JsonNodeFactory.instance.objectNode();
+            properties.forEach(normalizedNode::set);
+            return normalizedNode;
+        }
+
+        if (node instanceof ArrayNode arrayNode) {
+            final List<JsonNode> elements = new ArrayList<>(arrayNode.size());
+            arrayNode.forEach(element -> elements.add(normalize(element)));
+            elements.sort(Comparator.comparing(JsonNode::toString));
+            final ArrayNode normalizedNode = JsonNodeFactory.instance.arrayNode(elements.size());
+            normalizedNode.addAll(elements);
+            return normalizedNode;
+        }
+
+        return node;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class CountKey {
+
+        private final Class<?> type;
+        private final long generation;
+        private final String filter;
+
+    }
+
+}
@@ -0,0 +1,253 @@
+package org.nostalgia.common.service.impl;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.common.model.NostalgiaMail;
+import org.nostalgia.common.model.NostalgiaMailOutbox;
+import org.nostalgia.common.port.NostalgiaMailOutboxPort;
+import org.nostalgia.common.service.NostalgiaMailTemplateEngine;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dispatcher of the mails waiting in the outbox.
+ * <p>
+ * The outbox is drained by the {@code NostalgiaMailOutboxDispatchScheduler} once per poll interval, and on the
+ * application task executor right after a transaction adding a mail is committed. Each batch of due mails is claimed
+ * for a lease, so that the other instances skip them, and sent with a single {@link JavaMailSender#send(MimeMessage...)} call,
+ * which delivers all of them over one SMTP connection.
+ * </p>
+ * <p>
+ * A mail which cannot be delivered is retried with an exponential backoff, starting from the initial backoff and
+ * capped at the maximum backoff, and is marked as failed once it reaches the maximum attempts. A mail claimed by
+ * an instance which stops before marking it is retried by any instance after its lease expires.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaMailOutboxDispatcher {
+
+    private static final String SENDER_ADDRESS = "info@afetyonetimsistemi.org";
+    private static final String SENDER_NAME = "Afet Yönetim Sistemi";
+
+    private final NostalgiaMailOutboxPort mailOutboxPort;
+
+    private final JavaMailSender mailSender;
+
+    private final NostalgiaMailTemplateEngine mailTemplateEngine;
+
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    NostalgiaMailOutboxDispatcher(final NostalgiaMailOutboxPort mailOutboxPort,
+                                  final JavaMailSender mailSender,
+                                  final NostalgiaMailTemplateEngine mailTemplateEngine,
+                                  @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) final TaskExecutor taskExecutor,
+                                  @Value("${nostalgia.mail.outbox.batch-size:50}") final int batchSize,
+                                  @Value("${nostalgia.mail.outbox.lease:5m}") final Duration lease,
+                                  @Value("${nostalgia.mail.outbox.max-attempts:10}") final int maxAttempts,
+                                  @Value("${nostalgia.mail.outbox.initial-backoff:30s}") final Duration initialBackoff,
+                                  @Value("${nostalgia.mail.outbox.max-backoff:1h}") final Duration maxBackoff) {
+
+        this.mailOutboxPort = mailOutboxPort;
+        this.mailSender = mailSender;
+        this.mailTemplateEngine = mailTemplateEngine;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Requests a dispatch once the current transaction is committed, or right away if there is no transaction,
+     * so that a mail added to the outbox is not left waiting for the next poll.
+     */
+    void dispatchAfterCommit() {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.requestDispatch();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestDispatch();
+            }
+        });
+    }
+
+    private void requestDispatch() {
+        if (!this.dispatchRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.taskExecutor.execute(this::dispatch);
+        } catch (TaskRejectedException exception) {
+            this.dispatchRequested.set(false);
+            log.warn("Mail outbox dispatch is rejected, the mail is left to the next poll: {}", exception.getMessage());
+        }
+    }
+
+    /**
+     * Sends the due mails in batches, as long as the previous batch was full and delivered.
+     */
+    synchronized void dispatch() {
+
+        this.dispatchRequested.set(false);
+
+        try {
+            boolean isDrained;
+            do {
+                final List<NostalgiaMailOutbox> mailOutboxes = this.mailOutboxPort.claim(this.batchSize, this.lease);
+                final boolean isDelivered = this.send(mailOutboxes);
+                isDrained = !isDelivered || mailOutboxes.size() < this.batchSize;
+            } while (!isDrained);
+        } catch (RuntimeException exception) {
+            log.error("Mail outbox could not be dispatched, it will be retried", exception);
+        }
+    }
+
+    /**
+     * Sends the given mails over a single connection and records the outcome of each of them.
+     *
+     * @return {@code true} if every mail is delivered
+     */
+    private boolean send(final List<NostalgiaMailOutbox> mailOutboxes) {
+
+        if (mailOutboxes.isEmpty()) {
+            return true;
+        }
+
+        final Map<MimeMessage, NostalgiaMailOutbox> mailOutboxesOfMessages = new LinkedHashMap<>();
+        final Map<NostalgiaMailOutbox, String> errorsOfMailOutboxes = new IdentityHashMap<>();
+        for (NostalgiaMailOutbox mailOutbox : mailOutboxes) {
+            try {
+                mailOutboxesOfMessages.put(this.createMimeMessage(mailOutbox.getMail()), mailOutbox);
+            } catch (MessagingException | UnsupportedEncodingException | RuntimeException exception) {
+                errorsOfMailOutboxes.put(mailOutbox, exception.toString());
+            }
+        }
+
+        if (!mailOutboxesOfMessages.isEmpty()) {
+            try {
+                this.mailSender.send(mailOutboxesOfMessages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException exception) {
+                final Map<Object, Exception> failedMessages = exception.getFailedMessages();
+                if (failedMessages.isEmpty()) {
+                    mailOutboxesOfMessages.values().forEach(mailOutbox -> errorsOfMailOutboxes.put(mailOutbox, exception.toString()));
+                }
+                failedMessages.forEach((message, failure) -> {
+                    final NostalgiaMailOutbox mailOutbox = mailOutboxesOfMessages.get(message);
+                    if (mailOutbox != null) {
+                        errorsOfMailOutboxes.put(mailOutbox, failure.toString());
+                    }
+                });
+            } catch (MailException exception) {
+                mailOutboxesOfMessages.values().forEach(mailOutbox -> errorsOfMailOutboxes.put(mailOutbox, exception.toString()));
+            }
+        }
+
+        final Set<Long> sentIds = new HashSet<>();
+        final List<NostalgiaMailOutbox> failedMailOutboxes = new ArrayList<>();
+        for (NostalgiaMailOutbox mailOutbox : mailOutboxes) {
+            if (errorsOfMailOutboxes.containsKey(mailOutbox)) {
+                failedMailOutboxes.add(mailOutbox);
+            } else {
+                sentIds.add(mailOutbox.getId());
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            this.mailOutboxPort.markAllSent(sentIds);
+            log.trace("{} mails are sent from the outbox", sentIds.size());
+        }
+
+        for (NostalgiaMailOutbox mailOutbox : failedMailOutboxes) {
+            this.fail(mailOutbox, errorsOfMailOutboxes.get(mailOutbox));
+        }
+
+        return failedMailOutboxes.isEmpty();
+    }
+
+    private void fail(final NostalgiaMailOutbox mailOutbox, final String error) {
+
+        final int attemptCount = mailOutbox.getAttemptCount() + 1;
+        final NostalgiaMail mail = mailOutbox.getMail();
+
+        if (attemptCount >= this.maxAttempts) {
+            this.mailOutboxPort.markFailed(mailOutbox.getId(), error);
+            log.error("Mail could not be sent to {} with {} template in {} attempts: {}",
+                    mail.getTo(), mail.getTemplate(), attemptCount, error);
+            return;
+        }
+
+        final LocalDateTime nextAttemptAt = LocalDateTime.now().plus(this.findBackoff(mailOutbox.getAttemptCount()));
+        this.mailOutboxPort.markRetried(mailOutbox.getId(), nextAttemptAt, error);
+        log.warn("Mail could not be sent to {} with {} template, it will be retried at {}: {}",
+                mail.getTo(), mail.getTemplate(), nextAttemptAt, error);
+    }
+
+    /**
+     * Doubles the initial backoff for each previous attempt, up to the maximum backoff.
+     */
+    private Duration findBackoff(final int previousAttemptCount) {
+
+        Duration backoff = this.initialBackoff;
+        for (int i = 0; i < previousAttemptCount && backoff.compareTo(this.maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(this.maxBackoff) < 0 ? backoff : this.maxBackoff;
+    }
+
+    private MimeMessage createMimeMessage(final NostalgiaMail mail) throws UnsupportedEncodingException, MessagingException {
+
+        final MimeMessage mimeMessage = this.mailSender.createMimeMessage();
+
+        mimeMessage.setSubject(this.mailTemplateEngine.getTitle(mail.getTemplate()), "UTF-8");
+
+        final String htmlContent = this.mailTemplateEngine.render(mail.getTemplate(), mail.getParameters());
+        mimeMessage.setText(htmlContent, "UTF-8", "html");
+
+        mimeMessage.setFrom(new InternetAddress(SENDER_ADDRESS, SENDER_NAME));
+
+        for (String to : mail.getTo()) {
+            mimeMessage.addRecipients(Message.RecipientType.TO, to);
+        }
+        return mimeMessage;
+    }
+
+}
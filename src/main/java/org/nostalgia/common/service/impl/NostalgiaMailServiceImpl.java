@@ -1,96 +1,58 @@
 package org.nostalgia.common.service.impl;
 
-import jakarta.mail.Message;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.InternetAddress;
-import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nostalgia.common.model.NostalgiaMail;
-import org.nostalgia.common.model.enums.NostalgiaMailTemplate;
+import org.nostalgia.common.port.NostalgiaMailOutboxPort;
 import org.nostalgia.common.service.NostalgiaMailService;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.FileCopyUtils;
-import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.time.LocalDateTime;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 class NostalgiaMailServiceImpl implements NostalgiaMailService {
 
-    private final JavaMailSender mailSender;
+    private final NostalgiaMailOutboxPort mailOutboxPort;
 
-    @Override
-    public void send(final NostalgiaMail mail) {
-
-        CompletableFuture.runAsync(() -> this.sendEmail(mail))
-                .orTimeout(5, TimeUnit.SECONDS)
-                .exceptionally(throwable -> {
-                    log.warn("Mail not sent to {} in 5 seconds with {} template", mail.getTo(), mail.getTemplate());
-                    throw new AsyncRequestTimeoutException();
-                });
-
-    }
-
-    private void sendEmail(final NostalgiaMail mail) {
-
-        try {
-
-            MimeMessage mimeMessage = this.createMimeMessage(mail);
-
-            mailSender.send(mimeMessage);
-
-            log.trace("Mail sent to {} with {} template", mail.getTo(), mail.getTemplate());
+    private final NostalgiaMailOutboxDispatcher mailOutboxDispatcher;
 
-        } catch (Exception exception) {
-            log.error("Received error while sending mail to {} with {} template", mail.getTo(), mail.getTemplate(), exception);
-        }
+    private final int purgeChunkSize;
 
+    NostalgiaMailServiceImpl(final NostalgiaMailOutboxPort mailOutboxPort,
+                             final NostalgiaMailOutboxDispatcher mailOutboxDispatcher,
+                             @Value("${nostalgia.scheduler.mail-outbox-purge.chunk-size:1000}") final int purgeChunkSize) {
+        this.mailOutboxPort = mailOutboxPort;
+        this.mailOutboxDispatcher = mailOutboxDispatcher;
+        this.purgeChunkSize = purgeChunkSize;
     }
 
-    private MimeMessage createMimeMessage(final NostalgiaMail mail) throws IOException, MessagingException {
-        MimeMessage mimeMessage = mailSender.createMimeMessage();
-
-        String htmlContent = this.findTemplate(mail.getTemplate());
-
-        String title = this.findTitle(htmlContent);
-        mimeMessage.setSubject(title);
-
-        String htmlContentWithParameters = this.addParameters(htmlContent, mail.getParameters());
-        mimeMessage.setText(htmlContentWithParameters, "UTF-8", "html");
-
-        mimeMessage.setFrom(new InternetAddress("info@afetyonetimsistemi.org", "Afet Yönetim Sistemi"));
+    @Override
+    public void send(final NostalgiaMail mail) {
 
-        for (String to : mail.getTo()) {
-            mimeMessage.addRecipients(Message.RecipientType.TO, to);
-        }
-        return mimeMessage;
-    }
+        mailOutboxPort.save(mail);
+        mailOutboxDispatcher.dispatchAfterCommit();
 
-    private String findTemplate(NostalgiaMailTemplate template) throws IOException {
-        ClassPathResource resource = new ClassPathResource("mail/template/" + template.getFile());
-        byte[] binaryData = FileCopyUtils.copyToByteArray(resource.getInputStream());
-        return new String(binaryData, StandardCharsets.UTF_8);
+        log.trace("Mail to {} with {} template is added to the outbox", mail.getTo(), mail.getTemplate());
     }
 
-    private String findTitle(String htmlContent) {
-        return htmlContent.substring(htmlContent.indexOf("<title>") + 7, htmlContent.indexOf("</title>"));
+    @Override
+    public void dispatch() {
+        mailOutboxDispatcher.dispatch();
     }
 
-    private String addParameters(String htmlContent, Map<String, Object> parameters) {
-        String template = htmlContent;
-        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
-            template = template.replace("{" + parameter.getKey() + "}", parameter.getValue().toString());
-        }
-        return template;
+    /**
+     * Deletes the sent mails of the outbox in chunks, each of which is committed on its own,
+     * so that a large backlog is never deleted in a single transaction.
+     *
+     * @param sentAtThreshold the timestamp threshold before which sent mails will be deleted
+     */
+    @Override
+    public void deleteAllSentBefore(final LocalDateTime sentAtThreshold) {
+        int deletedCount;
+        do {
+            deletedCount = mailOutboxPort.deleteAllSentBefore(sentAtThreshold, purgeChunkSize);
+        } while (deletedCount >= purgeChunkSize);
     }
 
 }
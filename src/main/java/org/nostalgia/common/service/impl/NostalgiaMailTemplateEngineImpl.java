@@ -0,0 +1,203 @@
+package org.nostalgia.common.service.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.common.model.enums.NostalgiaMailTemplate;
+import org.nostalgia.common.service.NostalgiaMailTemplateEngine;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link NostalgiaMailTemplateEngine} which compiles every {@link NostalgiaMailTemplate} on startup.
+ * <p>
+ * A template is compiled into its title, the literal segments between its placeholders and the placeholder names,
+ * so that rendering appends the segments and the parameter values in a single pass into a buffer sized for
+ * the template, instead of reading the template and replacing each parameter in the whole content on every mail.
+ * Only {@code {name}} with a name of letters, digits and underscores is a placeholder, every other brace is literal.
+ * </p>
+ */
+@Slf4j
+@Service
+class NostalgiaMailTemplateEngineImpl implements NostalgiaMailTemplateEngine {
+
+    private static final String TEMPLATE_DIRECTORY = "mail/template/";
+
+    /**
+     * The estimated length of a parameter value, used to size the buffer of a rendering.
+     */
+    private static final int ESTIMATED_PARAMETER_LENGTH = 32;
+
+    private final Map<NostalgiaMailTemplate, CompiledTemplate> compiledTemplates = new EnumMap<>(NostalgiaMailTemplate.class);
+
+    NostalgiaMailTemplateEngineImpl() {
+
+        for (NostalgiaMailTemplate template : NostalgiaMailTemplate.values()) {
+            this.compiledTemplates.put(template, compile(read(template)));
+        }
+
+        log.info("{} mail templates are compiled", this.compiledTemplates.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getTitle(final NostalgiaMailTemplate template) {
+        return this.compiledTemplates.get(template).getTitle();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String render(final NostalgiaMailTemplate template, final Map<String, Object> parameters) {
+
+        final CompiledTemplate compiledTemplate = this.compiledTemplates.get(template);
+        final String[] segments = compiledTemplate.getSegments();
+        final String[] placeholders = compiledTemplate.getPlaceholders();
+
+        final StringBuilder content = new StringBuilder(
+                compiledTemplate.getLiteralLength() + placeholders.length * ESTIMATED_PARAMETER_LENGTH
+        );
+        for (int i = 0; i < placeholders.length; i++) {
+            content.append(segments[i]);
+
+            if (!parameters.containsKey(placeholders[i])) {
+                content.append('{').append(placeholders[i]).append('}');
+                continue;
+            }
+
+            final Object value = parameters.get(placeholders[i]);
+            if (value == null) {
+                continue;
+            }
+
+            if (template.isHtmlEscaped()) {
+                appendHtmlEscaped(content, value.toString());
+            } else {
+                content.append(value);
+            }
+        }
+        content.append(segments[placeholders.length]);
+
+        return content.toString();
+    }
+
+    private static String read(final NostalgiaMailTemplate template) {
+        try {
+            final ClassPathResource resource = new ClassPathResource(TEMPLATE_DIRECTORY + template.getFile());
+            return new String(FileCopyUtils.copyToByteArray(resource.getInputStream()), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Mail template cannot be read: " + template.getFile(), exception);
+        }
+    }
+
+    /**
+     * Splits the given content into the literal segments and the placeholder names between them,
+     * so that there is always one more segment than placeholders.
+     */
+    private static CompiledTemplate compile(final String content) {
+
+        final List<String> segments = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+
+        int segmentStart = 0;
+        int index = content.indexOf('{');
+        while (index >= 0) {
+            final int placeholderEnd = findPlaceholderEnd(content, index);
+            if (placeholderEnd < 0) {
+                index = content.indexOf('{', index + 1);
+                continue;
+            }
+
+            segments.add(content.substring(segmentStart, index));
+            placeholders.add(content.substring(index + 1, placeholderEnd));
+            segmentStart = placeholderEnd + 1;
+            index = content.indexOf('{', segmentStart);
+        }
+        segments.add(content.substring(segmentStart));
+
+        final int titleStart = content.indexOf("<title>");
+        final int titleEnd = content.indexOf("</title>");
+        final String title = titleStart >= 0 && titleEnd > titleStart
+                ? content.substring(titleStart + "<title>".length(), titleEnd).trim()
+                : "";
+
+        return new CompiledTemplate(
+                title,
+                segments.toArray(String[]::new),
+                placeholders.toArray(String[]::new),
+                content.length() - placeholders.stream().mapToInt(placeholder -> placeholder.length() + 2).sum()
+        );
+    }
+
+    /**
+     * Returns the index of the closing brace of the placeholder opened at the given index,
+     * or {@code -1} if the brace does not open a placeholder.
+     */
+    private static int findPlaceholderEnd(final String content, final int openingIndex) {
+
+        int index = openingIndex + 1;
+        while (index < content.length()) {
+            final char character = content.charAt(index);
+            if (character == '}') {
+                return index > openingIndex + 1 ? index : -1;
+            }
+            if (!Character.isLetterOrDigit(character) && character != '_') {
+                return -1;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    private static void appendHtmlEscaped(final StringBuilder content, final String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            switch (character) {
+                case '&' -> content.append("&amp;");
+                case '<' -> content.append("&lt;");
+                case '>' -> content.append("&gt;");
+                case '"' -> content.append("&quot;");
+                case '\'' -> content.append("&#39;");
+                default -> content.append(character);
+            }
+        }
+    }
+
+
+    /**
+     * A template compiled into its title, literal segments and placeholders.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class CompiledTemplate {
+
+        private final String title;
+
+        /**
+         * The literal segments around the placeholders, one more than the placeholders.
+         */
+        private final String[] segments;
+
+        private final String[] placeholders;
+
+        /**
+         * The total length of the literal segments.
+         */
+        private final int literalLength;
+
+    }
+
+}
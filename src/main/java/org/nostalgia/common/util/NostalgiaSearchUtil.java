@@ -0,0 +1,72 @@
+package org.nostalgia.common.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * This utility class provides the normalization of the searchable texts, which are stored in the search columns
+ * and compared with the normalized search values.
+ * <p>
+ * A text is normalized by folding the Turkish letters into their ASCII counterparts, lower casing it and trimming it,
+ * so that the search is case-insensitive in both the Turkish and the English locales. The same folding is applied by
+ * the database migration which fills the search columns of the existing rows.
+ * </p>
+ */
+@UtilityClass
+public class NostalgiaSearchUtil {
+
+    private static final String TURKISH_LETTERS = "İIıĞğÜüŞşÖöÇç";
+    private static final String FOLDED_LETTERS = "iiigguussoocc";
+
+    /**
+     * The minimum length of a word which is indexed by the MySQL full-text index with the default configuration.
+     */
+    private static final int FULL_TEXT_MINIMUM_WORD_LENGTH = 3;
+
+    /**
+     * Normalizes the given text for searching.
+     *
+     * @param text the text to normalize
+     * @return the normalized text, or {@code null} if the text is {@code null}
+     */
+    public static String normalize(final String text) {
+
+        if (text == null) {
+            return null;
+        }
+
+        final StringBuilder folded = new StringBuilder(text.length());
+        for (int index = 0; index < text.length(); index++) {
+            final char character = text.charAt(index);
+            final int letterIndex = TURKISH_LETTERS.indexOf(character);
+            folded.append(letterIndex < 0 ? character : FOLDED_LETTERS.charAt(letterIndex));
+        }
+
+        return folded.toString().toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * Converts the given normalized text into a MySQL boolean mode full-text query, which requires every word
+     * of the text as a word prefix.
+     *
+     * @param normalizedText the normalized text to convert
+     * @return the full-text query, or {@code null} if the text has no word long enough to be indexed
+     */
+    public static String toFullTextQuery(final String normalizedText) {
+
+        if (normalizedText == null) {
+            return null;
+        }
+
+        final String query = Arrays.stream(normalizedText.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> word.length() >= FULL_TEXT_MINIMUM_WORD_LENGTH)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+
+        return query.isEmpty() ? null : query;
+    }
+
+}
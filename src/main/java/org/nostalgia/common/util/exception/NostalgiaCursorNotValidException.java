@@ -0,0 +1,26 @@
+package org.nostalgia.common.util.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception to be thrown when a value of a keyset pagination cursor can not be converted to the type of its sort property.
+ */
+public final class NostalgiaCursorNotValidException extends NostalgiaBadRequestException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = 4180739276381502857L;
+
+    /**
+     * Constructs a new {@link NostalgiaCursorNotValidException} with the specified property and value.
+     *
+     * @param property the sort property of the value
+     * @param value    the value which is not valid
+     */
+    public NostalgiaCursorNotValidException(final String property, final String value) {
+        super("cursor is not valid! property: " + property + ", value: " + value);
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.nostalgia.common.util.exception;
+
+import java.io.Serial;
+
+/**
+ * A base class for exceptions that occur when a request is rejected because the application is temporarily
+ * out of capacity to process it.
+ */
+public abstract class NostalgiaServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = -3470284651265537104L;
+
+    /**
+     * Constructs a new {@link NostalgiaServiceUnavailableException} with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    protected NostalgiaServiceUnavailableException(final String message) {
+        super(message);
+    }
+
+}
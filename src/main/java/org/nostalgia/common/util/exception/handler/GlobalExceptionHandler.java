@@ -119,6 +119,17 @@ class GlobalExceptionHandler {
                 .build();
     }
 
+    @ExceptionHandler(NostalgiaServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    NostalgiaErrorResponse handleServiceUnavailableError(final NostalgiaServiceUnavailableException exception) {
+        log.warn(exception.getMessage());
+
+        return NostalgiaErrorResponse.builder()
+                .header(NostalgiaErrorResponse.Header.SERVICE_UNAVAILABLE.getName())
+                .message(exception.getMessage())
+                .build();
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     NostalgiaErrorResponse handleProcessError(final Exception exception) {
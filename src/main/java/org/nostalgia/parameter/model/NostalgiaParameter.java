@@ -1,34 +1,36 @@
 package org.nostalgia.parameter.model;
 
-import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.experimental.SuperBuilder;
 import org.nostalgia.auth.model.enums.NostalgiaConfigurationParameter;
+import org.nostalgia.common.model.BaseDomainModel;
 
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * A class representing a parameter used in the AYS application.
  */
 @Getter
 @Setter
-@Builder
-public class NostalgiaParameter {
+@SuperBuilder
+@EqualsAndHashCode(callSuper = true)
+public class NostalgiaParameter extends BaseDomainModel {
 
     private String name;
     private String definition;
 
     /**
-     * Returns the definition of a specified configuration parameter by searching through a set of parameters.
+     * Returns the definition of a specified configuration parameter by looking it up in the parameters keyed by their names.
      *
      * @param configurationParameter the configuration parameter whose definition is being sought
-     * @param parameters             the set of parameters to search through
+     * @param parameters             the parameters keyed by their names
      * @return the definition of the specified configuration parameter, or null if not found
      */
-    public static String getDefinition(final NostalgiaConfigurationParameter configurationParameter, final Set<NostalgiaParameter> parameters) {
-        return parameters.stream()
-                .filter(parameter -> parameter.getName().equals(configurationParameter.name()))
-                .findFirst()
+    public static String getDefinition(final NostalgiaConfigurationParameter configurationParameter, final Map<String, NostalgiaParameter> parameters) {
+        return Optional.ofNullable(parameters.get(configurationParameter.name()))
                 .map(NostalgiaParameter::getDefinition)
                 .orElse(null);
     }
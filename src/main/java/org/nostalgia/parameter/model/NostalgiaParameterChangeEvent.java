@@ -0,0 +1,23 @@
+package org.nostalgia.parameter.model;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * An application event published when {@link NostalgiaParameter} entities are added, removed or their definitions
+ * are changed, so that the components built from the parameters can be rebuilt without a restart.
+ */
+@Getter
+public class NostalgiaParameterChangeEvent {
+
+    /**
+     * The names of the changed parameters.
+     */
+    private final Set<String> names;
+
+    public NostalgiaParameterChangeEvent(final Set<String> names) {
+        this.names = Set.copyOf(names);
+    }
+
+}
@@ -30,7 +30,7 @@ public class NostalgiaParameterEntity extends BaseEntity {
     @Column(name = "NAME")
     private String name;
 
-    @Column(name = "DEFINITION")
+    @Column(name = "DEFINITION", columnDefinition = "TEXT")
     private String definition;
 
 }
@@ -3,22 +3,25 @@ package org.nostalgia.parameter.port;
 
 import org.nostalgia.parameter.model.NostalgiaParameter;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * A read port interface for accessing {@link NostalgiaParameter} data.
- * Defines methods to retrieve {@link NostalgiaParameter} entities based on name or name prefix.
+ * Defines methods to retrieve {@link NostalgiaParameter} entities based on name or name prefix,
+ * and to refresh the parameters which the reads are served from.
  */
 public interface NostalgiaParameterReadPort {
 
     /**
-     * Retrieves a set of {@link NostalgiaParameter} entities whose names start with the given prefix.
+     * Retrieves the {@link NostalgiaParameter} entities whose names start with the given prefix.
+     * The prefix is matched literally, without any wildcard characters.
      *
      * @param prefixOfName the prefix of the names to search for
-     * @return a set of {@link NostalgiaParameter} entities with names starting with the given prefix
+     * @return a map of the {@link NostalgiaParameter} entities with names starting with the given prefix, keyed by their names
      */
-    Set<NostalgiaParameter> findAll(String prefixOfName);
+    Map<String, NostalgiaParameter> findAll(String prefixOfName);
 
     /**
      * Retrieves an {@link NostalgiaParameter} entity by its name.
@@ -28,4 +31,12 @@ public interface NostalgiaParameterReadPort {
      */
     Optional<NostalgiaParameter> findByName(String name);
 
+    /**
+     * Reloads the {@link NostalgiaParameter} entities changed since the previous refresh,
+     * so that the edited parameters are applied without a restart.
+     *
+     * @return the names of the {@link NostalgiaParameter} entities which are added, removed or have a changed definition
+     */
+    Set<String> refresh();
+
 }
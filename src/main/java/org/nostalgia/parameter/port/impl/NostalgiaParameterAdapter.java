@@ -1,45 +1,88 @@
 package org.nostalgia.parameter.port.impl;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.nostalgia.parameter.model.NostalgiaParameter;
 import org.nostalgia.parameter.model.entity.NostalgiaParameterEntity;
 import org.nostalgia.parameter.model.mapper.NostalgiaParameterEntityToDomainMapper;
 import org.nostalgia.parameter.port.NostalgiaParameterReadPort;
 import org.nostalgia.parameter.repository.NostalgiaParameterRepository;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An adapter class implementing {@link NostalgiaParameterReadPort} for accessing {@link NostalgiaParameter} entities.
- * This class interacts with the underlying repository to fetch the data and uses a mapper
- * to convert entity objects to domain objects.
+ * <p>
+ * The parameters are served from an immutable in-memory snapshot of the parameter table, which is swapped atomically,
+ * so the reads are lock-free and never reach the database. The snapshot is loaded on startup and refreshed with
+ * the rows whose update or creation time is at or after the latest one in the snapshot. Since a deleted row leaves
+ * no timestamp behind, a change in the number of rows reloads the whole table instead.
+ * </p>
+ * <p>
+ * Besides the name-keyed map of the exact lookups, the snapshot keeps the parameters in a map sorted by name,
+ * so that the parameters of a prefix are a contiguous range of it. The prefix is compared as a plain string,
+ * without any wildcard characters.
+ * </p>
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 class NostalgiaParameterAdapter implements NostalgiaParameterReadPort {
 
+    /**
+     * The change time of the rows without any timestamp, which are only picked up by a reload of the whole table.
+     */
+    private static final LocalDateTime NO_CHANGE_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final NostalgiaParameterRepository parameterRepository;
 
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
 
     private final NostalgiaParameterEntityToDomainMapper parameterEntityToParameterMapper = NostalgiaParameterEntityToDomainMapper.initialize();
 
 
+    NostalgiaParameterAdapter(final NostalgiaParameterRepository parameterRepository) {
+
+        this.parameterRepository = parameterRepository;
+
+        log.info("Parameter snapshot is loading...");
+        this.snapshot.set(this.load(Map.of(), parameterRepository.findAll()));
+        log.info("Parameter snapshot is loaded with {} parameters!", this.snapshot.get().getParametersById().size());
+    }
+
+
     /**
-     * Retrieves a set of {@link NostalgiaParameter} entities that have names starting with the given prefix.
+     * Retrieves the {@link NostalgiaParameter} entities that have names starting with the given prefix,
+     * from the range of the sorted parameters which starts with the prefix.
      *
      * @param prefixOfName the prefix of the names to search for
-     * @return a set of {@link NostalgiaParameter} entities with names starting with the given prefix
+     * @return a map of the {@link NostalgiaParameter} entities with names starting with the given prefix, keyed by their names
      */
     @Override
-    public Set<NostalgiaParameter> findAll(final String prefixOfName) {
-        return parameterRepository.findByNameStartingWith(prefixOfName).stream()
-                .map(parameterEntityToParameterMapper::map)
-                .collect(Collectors.toSet());
+    public Map<String, NostalgiaParameter> findAll(final String prefixOfName) {
+
+        final Map<String, NostalgiaParameter> parameters = new HashMap<>();
+        for (Map.Entry<String, NostalgiaParameter> parameter : this.snapshot.get().getSortedParametersByName().tailMap(prefixOfName, true).entrySet()) {
+            if (!parameter.getKey().startsWith(prefixOfName)) {
+                break;
+            }
+            parameters.put(parameter.getKey(), parameter.getValue());
+        }
+        return Collections.unmodifiableMap(parameters);
     }
 
 
@@ -51,8 +94,125 @@ class NostalgiaParameterAdapter implements NostalgiaParameterReadPort {
      */
     @Override
     public Optional<NostalgiaParameter> findByName(final String name) {
-        final Optional<NostalgiaParameterEntity> parameterEntity = parameterRepository.findByName(name);
-        return parameterEntity.map(parameterEntityToParameterMapper::map);
+        return Optional.ofNullable(this.snapshot.get().getParametersByName().get(name));
+    }
+
+
+    /**
+     * Reloads the rows changed since the latest change time in the snapshot, or the whole table if the number of rows
+     * differs from the snapshot, and swaps the snapshot if any parameter has changed.
+     *
+     * @return the names of the parameters which are added, removed or have a changed definition
+     */
+    @Override
+    public synchronized Set<String> refresh() {
+
+        final Snapshot currentSnapshot = this.snapshot.get();
+
+        if (this.parameterRepository.count() != currentSnapshot.getParametersById().size()) {
+            final Snapshot reloadedSnapshot = this.load(Map.of(), this.parameterRepository.findAll());
+            this.snapshot.set(reloadedSnapshot);
+            log.trace("Parameter snapshot is reloaded with {} parameters", reloadedSnapshot.getParametersById().size());
+            return findChangedNames(currentSnapshot, reloadedSnapshot);
+        }
+
+        final List<NostalgiaParameterEntity> changedParameterEntities = this.parameterRepository
+                .findAllByUpdatedAtGreaterThanEqualOrCreatedAtGreaterThanEqual(currentSnapshot.getChangedAt(), currentSnapshot.getChangedAt());
+
+        final boolean isChanged = changedParameterEntities.stream()
+                .anyMatch(parameterEntity -> isChanged(currentSnapshot.getParametersById().get(parameterEntity.getId()), parameterEntity));
+        if (!isChanged) {
+            return Set.of();
+        }
+
+        final Snapshot refreshedSnapshot = this.load(currentSnapshot.getParametersById(), changedParameterEntities);
+        this.snapshot.set(refreshedSnapshot);
+        log.trace("Parameter snapshot is refreshed with {} changed parameters", changedParameterEntities.size());
+        return findChangedNames(currentSnapshot, refreshedSnapshot);
+    }
+
+    /**
+     * Builds a snapshot of the given parameters, replacing the ones with the same ID.
+     */
+    private Snapshot load(final Map<Long, NostalgiaParameter> parametersById,
+                          final Collection<NostalgiaParameterEntity> parameterEntities) {
+
+        final Map<Long, NostalgiaParameter> loadedParametersById = new HashMap<>(parametersById);
+        for (NostalgiaParameterEntity parameterEntity : parameterEntities) {
+            loadedParametersById.put(parameterEntity.getId(), parameterEntityToParameterMapper.map(parameterEntity));
+        }
+
+        final Map<String, NostalgiaParameter> loadedParametersByName = new HashMap<>();
+        LocalDateTime changedAt = NO_CHANGE_TIME;
+        for (NostalgiaParameter parameter : loadedParametersById.values()) {
+            if (parameter.getName() != null) {
+                loadedParametersByName.put(parameter.getName(), parameter);
+            }
+            changedAt = max(changedAt, max(parameter.getCreatedAt(), parameter.getUpdatedAt()));
+        }
+
+        return new Snapshot(
+                Map.copyOf(loadedParametersById),
+                Map.copyOf(loadedParametersByName),
+                Collections.unmodifiableNavigableMap(new TreeMap<>(loadedParametersByName)),
+                changedAt
+        );
+    }
+
+    /**
+     * Finds the names of the parameters which are only in one of the snapshots or have different definitions in them.
+     */
+    private static Set<String> findChangedNames(final Snapshot previousSnapshot, final Snapshot snapshot) {
+
+        final Set<String> changedNames = new HashSet<>();
+        previousSnapshot.getParametersByName().forEach((name, previousParameter) -> {
+            final NostalgiaParameter parameter = snapshot.getParametersByName().get(name);
+            if (parameter == null || !Objects.equals(previousParameter.getDefinition(), parameter.getDefinition())) {
+                changedNames.add(name);
+            }
+        });
+        snapshot.getParametersByName().keySet().stream()
+                .filter(name -> !previousSnapshot.getParametersByName().containsKey(name))
+                .forEach(changedNames::add);
+        return changedNames;
+    }
+
+    private static boolean isChanged(final NostalgiaParameter parameter, final NostalgiaParameterEntity parameterEntity) {
+        return parameter == null
+                || !Objects.equals(parameter.getName(), parameterEntity.getName())
+                || !Objects.equals(parameter.getDefinition(), parameterEntity.getDefinition())
+                || !Objects.equals(parameter.getUpdatedAt(), parameterEntity.getUpdatedAt());
+    }
+
+    private static LocalDateTime max(final LocalDateTime first, final LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null || first.isAfter(second)) {
+            return first;
+        }
+        return second;
+    }
+
+
+    /**
+     * An immutable snapshot of the parameter table.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Snapshot {
+
+        private final Map<Long, NostalgiaParameter> parametersById;
+
+        private final Map<String, NostalgiaParameter> parametersByName;
+
+        private final NavigableMap<String, NostalgiaParameter> sortedParametersByName;
+
+        /**
+         * The latest update or creation time of the parameters in the snapshot.
+         */
+        private final LocalDateTime changedAt;
+
     }
 
 }
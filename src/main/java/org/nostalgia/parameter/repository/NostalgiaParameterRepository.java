@@ -3,29 +3,23 @@ package org.nostalgia.parameter.repository;
 import org.nostalgia.parameter.model.entity.NostalgiaParameterEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Repository interface for performing CRUD operations on {@link NostalgiaParameterEntity} instances.
- * Provides methods for finding {@link NostalgiaParameterEntity} instances by name prefix.
+ * Provides methods for finding the {@link NostalgiaParameterEntity} instances changed since a point in time.
  */
 public interface NostalgiaParameterRepository extends JpaRepository<NostalgiaParameterEntity, Long> {
 
     /**
-     * Finds a set of {@link NostalgiaParameterEntity} instances whose names start with the specified prefix.
+     * Finds the {@link NostalgiaParameterEntity} instances which are updated or created at or after the specified times.
      *
-     * @param prefixOfName the prefix to search for
-     * @return a set of {@link NostalgiaParameterEntity} instances whose names start with the specified prefix
+     * @param updatedAt the time to compare the update times with
+     * @param createdAt the time to compare the creation times with
+     * @return a list of {@link NostalgiaParameterEntity} instances changed at or after the specified times
      */
-    Set<NostalgiaParameterEntity> findByNameStartingWith(String prefixOfName);
-
-    /**
-     * Finds an {@link NostalgiaParameterEntity} instances by name.
-     *
-     * @param name the name to search for
-     * @return an {@link Optional} containing the {@link NostalgiaParameterEntity} entity if found, otherwise empty
-     */
-    Optional<NostalgiaParameterEntity> findByName(String name);
+    List<NostalgiaParameterEntity> findAllByUpdatedAtGreaterThanEqualOrCreatedAtGreaterThanEqual(LocalDateTime updatedAt,
+                                                                                              LocalDateTime createdAt);
 
 }
@@ -0,0 +1,37 @@
+package org.nostalgia.parameter.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nostalgia.parameter.service.NostalgiaParameterService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler component for applying the edited parameters without a restart.
+ * <p>
+ * This component refreshes the in-memory parameters through the {@link NostalgiaParameterService} with a fixed delay,
+ * configured by `nostalgia.parameter.refresh-interval` as a duration such as `30s`. An edited parameter is therefore
+ * read by all the application nodes within about one refresh interval.
+ * </p>
+ */
+@Slf4j
+@Component
+class NostalgiaParameterRefreshScheduler {
+
+    private final NostalgiaParameterService parameterService;
+
+    public NostalgiaParameterRefreshScheduler(NostalgiaParameterService parameterService) {
+
+        this.parameterService = parameterService;
+
+        log.info("ParameterRefreshScheduler is enabled.");
+    }
+
+    /**
+     * Scheduled method to refresh the parameters changed since the previous run.
+     */
+    @Scheduled(fixedDelayString = "${nostalgia.parameter.refresh-interval:30s}")
+    public void refreshParameters() {
+        parameterService.refresh();
+    }
+
+}
@@ -2,7 +2,7 @@ package org.nostalgia.parameter.service;
 
 import org.nostalgia.parameter.model.NostalgiaParameter;
 
-import java.util.Set;
+import java.util.Map;
 
 /**
  * A service interface for managing AysParameters.
@@ -10,12 +10,12 @@ import java.util.Set;
 public interface NostalgiaParameterService {
 
     /**
-     * Retrieves a set of AysParameters that their name starts with the specified prefix.
+     * Retrieves the AysParameters that their name starts with the specified prefix.
      *
      * @param prefixOfName the prefix of the name to search for
-     * @return a set of AysParameter entities
+     * @return a map of AysParameter entities keyed by their names
      */
-    Set<NostalgiaParameter> findAll(String prefixOfName);
+    Map<String, NostalgiaParameter> findAll(String prefixOfName);
 
     /**
      * Retrieves an AysParameter that has the specified name.
@@ -25,4 +25,10 @@ public interface NostalgiaParameterService {
      */
     NostalgiaParameter findByName(String name);
 
+    /**
+     * Reloads the AysParameters changed since the previous refresh,
+     * and publishes a NostalgiaParameterChangeEvent if any of them has changed.
+     */
+    void refresh();
+
 }
@@ -2,11 +2,14 @@ package org.nostalgia.parameter.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.nostalgia.parameter.model.NostalgiaParameter;
+import org.nostalgia.parameter.model.NostalgiaParameterChangeEvent;
 import org.nostalgia.parameter.port.NostalgiaParameterReadPort;
 import org.nostalgia.parameter.service.NostalgiaParameterService;
 import org.nostalgia.parameter.util.exception.NostalgiaParameterNotExistException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -19,15 +22,17 @@ class NostalgiaParameterServiceImpl implements NostalgiaParameterService {
 
     private final NostalgiaParameterReadPort parameterReadPort;
 
+    private final ApplicationEventPublisher eventPublisher;
+
 
     /**
-     * Retrieves a set of {@link NostalgiaParameter} entities that have names starting with the given prefix.
+     * Retrieves the {@link NostalgiaParameter} entities that have names starting with the given prefix.
      *
      * @param prefixOfName the prefix of the names to search for
-     * @return a set of {@link NostalgiaParameter} entities with names starting with the given prefix
+     * @return a map of the {@link NostalgiaParameter} entities with names starting with the given prefix, keyed by their names
      */
     @Override
-    public Set<NostalgiaParameter> findAll(final String prefixOfName) {
+    public Map<String, NostalgiaParameter> findAll(final String prefixOfName) {
         return parameterReadPort.findAll(prefixOfName);
     }
 
@@ -46,4 +51,17 @@ class NostalgiaParameterServiceImpl implements NostalgiaParameterService {
                 .orElseThrow(() -> new NostalgiaParameterNotExistException(name));
     }
 
+
+    /**
+     * Reloads the {@link NostalgiaParameter} entities changed since the previous refresh,
+     * and publishes a {@link NostalgiaParameterChangeEvent} with their names if any of them has changed.
+     */
+    @Override
+    public void refresh() {
+        final Set<String> changedNames = parameterReadPort.refresh();
+        if (!changedNames.isEmpty()) {
+            eventPublisher.publishEvent(new NostalgiaParameterChangeEvent(changedNames));
+        }
+    }
+
 }
@@ -0,0 +1,159 @@
+package org.nostalgia.common.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nostalgia.auth.model.NostalgiaUser;
+import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
+import org.nostalgia.common.model.enums.NostalgiaPaginationMode;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Verifies the encoding of the keyset cursors, and their acceptance by the keyset sort of a pageable.
+ * <p>
+ * The cursors are created from users, whose properties are read through their getters like the rows of a page.
+ * </p>
+ */
+class NostalgiaCursorTest {
+
+    private static final String USER_ID = "d5f0b0a4-1c64-4d7e-a7c6-0b4f0f6a2e11";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 11, 5, 14, 30, 15);
+
+    @Test
+    void givenCursor_whenCursorIsEncodedAndDecoded_thenPropertiesAndValuesAreKept() {
+
+        final Sort sort = Sort.by(Sort.Direction.DESC, "createdAt")
+                .and(Sort.by("status"))
+                .and(Sort.by("fullName"))
+                .and(Sort.by("id"));
+        final NostalgiaCursor cursor = NostalgiaCursor.of(sort, createUser("Şule Öztürk"));
+
+        final NostalgiaCursor decodedCursor = NostalgiaCursor.decode(cursor.encode());
+
+        Assertions.assertEquals(List.of("createdAt", "status", "fullName", "id"), decodedCursor.getProperties());
+        Assertions.assertEquals(
+                List.of(CREATED_AT.toString(), NostalgiaUserStatus.ACTIVE.name(), "Şule Öztürk", USER_ID),
+                decodedCursor.getValues()
+        );
+        Assertions.assertTrue(decodedCursor.isCreatedFor(sort));
+    }
+
+    @Test
+    void givenCursor_whenCursorIsEncoded_thenTokenIsUrlSafeWithoutPadding() {
+
+        final NostalgiaCursor cursor = NostalgiaCursor.of(Sort.by("fullName").and(Sort.by("id")), createUser("Ali?Veli>"));
+
+        final String token = cursor.encode();
+
+        Assertions.assertTrue(token.matches("[A-Za-z0-9_-]+"), () -> "Token is not URL safe: " + token);
+    }
+
+    @Test
+    void givenMalformedTokens_whenTokensAreDecoded_thenIllegalArgumentExceptionIsThrown() {
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NostalgiaCursor.decode("not a cursor!"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NostalgiaCursor.decode("AQ"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NostalgiaCursor.decode("AAE"));
+    }
+
+    @Test
+    void givenNullSortProperty_whenCursorIsCreated_thenIllegalArgumentExceptionIsThrown() {
+
+        final Sort sort = Sort.by("fullName").and(Sort.by("id"));
+        final NostalgiaUser user = createUser(null);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NostalgiaCursor.of(sort, user));
+    }
+
+    @Test
+    void givenOrdersWithoutId_whenKeysetSortIsCreated_thenIdIsAppendedAsTieBreaker() {
+
+        final NostalgiaPageable pageable = createPageable(
+                null,
+                createOrder("createdAt", NostalgiaSort.Direction.DESC)
+        );
+
+        final Sort sort = pageable.toKeysetSort();
+
+        Assertions.assertEquals(
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.ASC, "id")),
+                sort
+        );
+    }
+
+    @Test
+    void givenOrdersWithId_whenKeysetSortIsCreated_thenIdIsNotDuplicated() {
+
+        final NostalgiaPageable pageable = createPageable(
+                null,
+                createOrder("id", NostalgiaSort.Direction.DESC),
+                createOrder("createdAt", NostalgiaSort.Direction.ASC)
+        );
+
+        final Sort sort = pageable.toKeysetSort();
+
+        Assertions.assertEquals(
+                Sort.by(Sort.Direction.DESC, "id").and(Sort.by(Sort.Direction.ASC, "createdAt")),
+                sort
+        );
+    }
+
+    @Test
+    void givenNoOrders_whenKeysetSortIsCreated_thenRowsAreSortedById() {
+
+        final NostalgiaPageable pageable = createPageable(null);
+
+        Assertions.assertEquals(Sort.by(Sort.Direction.ASC, "id"), pageable.toKeysetSort());
+    }
+
+    @Test
+    void givenCursorOfSameSort_whenPositionIsValidated_thenCursorIsAccepted() {
+
+        final NostalgiaSort.NostalgiaOrder order = createOrder("createdAt", NostalgiaSort.Direction.DESC);
+        final String cursor = NostalgiaCursor.of(createPageable(null, order).toKeysetSort(), createUser("Ali Veli")).encode();
+
+        Assertions.assertTrue(createPageable(cursor, order).isPositionAccepted());
+    }
+
+    @Test
+    void givenCursorOfAnotherSort_whenPositionIsValidated_thenCursorIsRejected() {
+
+        final String cursor = NostalgiaCursor.of(
+                createPageable(null, createOrder("createdAt", NostalgiaSort.Direction.DESC)).toKeysetSort(),
+                createUser("Ali Veli")
+        ).encode();
+
+        Assertions.assertFalse(createPageable(cursor, createOrder("fullName", NostalgiaSort.Direction.ASC)).isPositionAccepted());
+        Assertions.assertFalse(createPageable("not a cursor!", createOrder("createdAt", NostalgiaSort.Direction.DESC)).isPositionAccepted());
+    }
+
+
+    private static NostalgiaUser createUser(final String fullName) {
+        return NostalgiaUser.builder()
+                .id(USER_ID)
+                .emailAddress("first@nostalgia.org")
+                .fullName(fullName)
+                .status(NostalgiaUserStatus.ACTIVE)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    private static NostalgiaSort.NostalgiaOrder createOrder(final String property, final NostalgiaSort.Direction direction) {
+        return NostalgiaSort.NostalgiaOrder.builder()
+                .property(property)
+                .direction(direction)
+                .build();
+    }
+
+    private static NostalgiaPageable createPageable(final String cursor, final NostalgiaSort.NostalgiaOrder... orders) {
+        return NostalgiaPageable.builder()
+                .pageSize(10)
+                .mode(NostalgiaPaginationMode.KEYSET)
+                .cursor(cursor)
+                .orders(List.of(orders))
+                .build();
+    }
+
+}
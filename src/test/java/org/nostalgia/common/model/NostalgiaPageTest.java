@@ -0,0 +1,108 @@
+package org.nostalgia.common.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nostalgia.auth.model.NostalgiaUser;
+import org.nostalgia.auth.model.NostalgiaUserFilter;
+import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
+import org.nostalgia.common.model.enums.NostalgiaPaginationMode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Verifies the keyset pages created from the rows queried with one more row than the page size.
+ * <p>
+ * The rows are users sorted by their creation time, and are mapped to their email addresses as the content.
+ * </p>
+ */
+class NostalgiaPageTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 11, 5, 14, 30, 15);
+
+    private final NostalgiaUserFilter filter = NostalgiaUserFilter.builder()
+            .fullName("User")
+            .build();
+
+    private final NostalgiaPageable pageable = NostalgiaPageable.builder()
+            .pageSize(PAGE_SIZE)
+            .mode(NostalgiaPaginationMode.KEYSET)
+            .orders(List.of(
+                    NostalgiaSort.NostalgiaOrder.builder()
+                            .property("createdAt")
+                            .direction(NostalgiaSort.Direction.DESC)
+                            .build()
+            ))
+            .build();
+
+    @Test
+    void givenLookAheadRow_whenPageIsCreated_thenLookAheadRowIsTrimmedAndNextCursorIsOfLastRow() {
+
+        final List<NostalgiaUser> rows = createUsers(PAGE_SIZE + 1);
+
+        final NostalgiaPage<String> page = NostalgiaPage.of(this.filter, this.pageable, rows, NostalgiaPageTest::mapEmailAddresses);
+
+        Assertions.assertEquals(List.of("user0@nostalgia.org", "user1@nostalgia.org", "user2@nostalgia.org"), page.getContent());
+        Assertions.assertEquals(PAGE_SIZE, page.getPageSize());
+        Assertions.assertSame(this.filter, page.getFilteredBy());
+        Assertions.assertNull(page.getTotalElementCount());
+
+        final NostalgiaCursor nextCursor = NostalgiaCursor.decode(page.getNextCursor());
+        Assertions.assertTrue(nextCursor.isCreatedFor(this.pageable.toKeysetSort()));
+        Assertions.assertEquals(List.of(rows.get(2).getCreatedAt().toString(), rows.get(2).getId()), nextCursor.getValues());
+    }
+
+    @Test
+    void givenExactlyPageSizeRows_whenPageIsCreated_thenThereIsNoNextCursor() {
+
+        final NostalgiaPage<String> page = NostalgiaPage.of(this.filter, this.pageable, createUsers(PAGE_SIZE), NostalgiaPageTest::mapEmailAddresses);
+
+        Assertions.assertEquals(PAGE_SIZE, page.getContent().size());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void givenNoRows_whenPageIsCreated_thenPageIsEmptyWithoutNextCursor() {
+
+        final NostalgiaPage<String> page = NostalgiaPage.of(this.filter, this.pageable, List.of(), NostalgiaPageTest::mapEmailAddresses);
+
+        Assertions.assertTrue(page.getContent().isEmpty());
+        Assertions.assertEquals(0, page.getPageSize());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void givenPageable_whenPageIsCreated_thenPageIsOrderedByKeysetSort() {
+
+        final NostalgiaPage<String> page = NostalgiaPage.of(this.filter, this.pageable, createUsers(1), NostalgiaPageTest::mapEmailAddresses);
+
+        final List<NostalgiaSort.NostalgiaOrder> orderedBy = page.getOrderedBy();
+        Assertions.assertEquals(2, orderedBy.size());
+        Assertions.assertEquals("createdAt", orderedBy.get(0).getProperty());
+        Assertions.assertEquals(NostalgiaSort.Direction.DESC, orderedBy.get(0).getDirection());
+        Assertions.assertEquals("id", orderedBy.get(1).getProperty());
+        Assertions.assertEquals(NostalgiaSort.Direction.ASC, orderedBy.get(1).getDirection());
+    }
+
+
+    private static List<NostalgiaUser> createUsers(final int count) {
+        return IntStream.range(0, count)
+                .<NostalgiaUser>mapToObj(index -> NostalgiaUser.builder()
+                        .id("user-" + index)
+                        .emailAddress("user" + index + "@nostalgia.org")
+                        .fullName("User " + index)
+                        .status(NostalgiaUserStatus.ACTIVE)
+                        .createdAt(CREATED_AT.minusMinutes(index))
+                        .build())
+                .toList();
+    }
+
+    private static List<String> mapEmailAddresses(final List<NostalgiaUser> users) {
+        return users.stream()
+                .map(NostalgiaUser::getEmailAddress)
+                .toList();
+    }
+
+}
@@ -0,0 +1,251 @@
+package org.nostalgia.common.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nostalgia.auth.model.NostalgiaUserFilter;
+import org.nostalgia.auth.model.entity.NostalgiaRoleEntity;
+import org.nostalgia.auth.model.enums.NostalgiaUserStatus;
+import org.nostalgia.auth.repository.NostalgiaInvalidTokenRepository;
+import org.nostalgia.auth.repository.NostalgiaRoleRepository;
+import org.nostalgia.auth.repository.NostalgiaUserRepository;
+import org.nostalgia.common.model.enums.NostalgiaMailOutboxStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Verifies that the queries of the ports are answered from the indexes of the Liquibase changelogs.
+ * <p>
+ * The changelogs are applied to an H2 database in MySQL mode, and each repository method of a port is called
+ * while a {@link StatementInspector} records the SQL Hibernate generates for it with the MySQL dialect.
+ * The plan of the recorded statement is then read with {@code EXPLAIN}, so a change of a derived query, a JPQL query
+ * or a criteria query is verified as well. H2 names the index of every primary key {@code PRIMARY_KEY},
+ * so primary key lookups are asserted by that name.
+ * </p>
+ * <p>
+ * {@code VALUE} is a keyword of H2 but a column of the user password table, which Liquibase creates as a quoted
+ * identifier. So the keyword is disabled and the identifiers are matched case-insensitively like in MySQL.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:nostalgia;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.jakarta.persistence.database-product-name=MySQL",
+        "spring.jpa.properties.jakarta.persistence.database-major-version=8",
+        "spring.jpa.properties.jakarta.persistence.database-minor-version=0",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.nostalgia.common.repository.NostalgiaIndexUsageTests$StatementRecorder"
+})
+class NostalgiaIndexUsageTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NostalgiaInvalidTokenRepository invalidTokenRepository;
+
+    @Autowired
+    private NostalgiaUserRepository userRepository;
+
+    @Autowired
+    private NostalgiaRoleRepository roleRepository;
+
+    @Autowired
+    private NostalgiaMailOutboxRepository mailOutboxRepository;
+
+    @Test
+    void givenTokenId_whenInvalidTokenIsSearched_thenTokenIdIndexIsUsed() {
+        final String tokenId = "c6d1bd1e-4d6f-4b0e-9a5c-1b2f0a3e7d10";
+        this.assertIndexUsed(
+                "ix_nostalgia_invalid_token_token_id",
+                () -> this.invalidTokenRepository.findByTokenId(tokenId),
+                tokenId
+        );
+    }
+
+    @Test
+    void givenExpiresAt_whenExpiredInvalidTokensAreDeleted_thenExpiresAtIndexIsUsed() {
+        final LocalDateTime expiresAt = LocalDateTime.now();
+        this.assertIndexUsed(
+                "ix_nostalgia_invalid_token_expires_at",
+                () -> this.invalidTokenRepository.deleteAllByExpiresAtBefore(expiresAt, 1000),
+                expiresAt, 1000
+        );
+    }
+
+    @Test
+    void givenId_whenInvalidTokensAfterIdAreSearched_thenPrimaryKeyIsUsed() {
+        this.assertIndexUsed(
+                "primary_key",
+                () -> this.invalidTokenRepository.findAllByIdGreaterThanOrderByIdAsc(1L, Limit.of(1000)),
+                1L, 1000
+        );
+    }
+
+    @Test
+    void givenEmailAddress_whenUserIsSearched_thenEmailAddressConstraintIsUsed() {
+        final String emailAddress = "admin@nostalgia.org";
+        this.assertIndexUsed(
+                "uc_nostalgia_user_email_address",
+                () -> this.userRepository.findByEmailAddress(emailAddress),
+                emailAddress
+        );
+    }
+
+    @Test
+    void givenEmailAddress_whenUserExistenceIsChecked_thenEmailAddressConstraintIsUsed() {
+        final String emailAddress = "admin@nostalgia.org";
+        this.assertIndexUsed(
+                "uc_nostalgia_user_email_address",
+                () -> this.userRepository.existsByEmailAddress(emailAddress),
+                emailAddress, 1
+        );
+    }
+
+    @Test
+    void givenStatus_whenUsersAreFiltered_thenStatusIndexIsUsed() {
+        final NostalgiaUserFilter filter = NostalgiaUserFilter.builder()
+                .statuses(Set.of(NostalgiaUserStatus.ACTIVE))
+                .build();
+        this.assertIndexUsed(
+                "ix_nostalgia_user_status",
+                () -> this.userRepository.findAllSummaries(filter.toSpecification(), PageRequest.of(0, 10)),
+                NostalgiaUserStatus.ACTIVE.name(), 11
+        );
+    }
+
+    @Test
+    void givenUserId_whenUserIsLoadedWithRoles_thenUserRolePrimaryKeyIsUsed() {
+        final String userId = "d5f0b0a4-1c64-4d7e-a7c6-0b4f0f6a2e11";
+        this.assertIndexUsed(
+                "primary_key",
+                () -> this.userRepository.findById(userId),
+                userId
+        );
+    }
+
+    @Test
+    void givenRoleId_whenRoleAssignmentIsChecked_thenRoleForeignKeyIndexIsUsed() {
+        final String roleId = "d5f0b0a4-1c64-4d7e-a7c6-0b4f0f6a2e11";
+        this.assertIndexUsed(
+                "fk_nosuserolrel_on_nostalgia_role_entity",
+                () -> this.roleRepository.isRoleAssignedToUser(roleId),
+                roleId
+        );
+    }
+
+    @Test
+    void givenName_whenRoleIsSearched_thenNameConstraintIsUsed() {
+        this.assertIndexUsed(
+                "uc_nostalgia_role_name",
+                () -> this.roleRepository.findByName("ADMIN"),
+                "ADMIN"
+        );
+    }
+
+    @Test
+    void givenRole_whenPermissionsOfRoleAreLoaded_thenRolePermissionPrimaryKeyIsUsed() {
+
+        final NostalgiaRoleEntity roleEntity = this.entityManager.persistFlushFind(
+                NostalgiaRoleEntity.builder()
+                        .name("ADMIN")
+                        .build()
+        );
+        this.entityManager.clear();
+
+        final NostalgiaRoleEntity loadedRoleEntity = this.roleRepository.findById(roleEntity.getId()).orElseThrow();
+        this.assertIndexUsed(
+                "primary_key",
+                () -> loadedRoleEntity.getPermissions().size(),
+                roleEntity.getId()
+        );
+    }
+
+    @Test
+    void givenStatusAndNow_whenDueMailsAreClaimed_thenStatusNextAttemptAtIndexIsUsed() {
+        final LocalDateTime now = LocalDateTime.now();
+        this.assertIndexUsed(
+                "ix_nostalgia_mail_outbox_status_next_attempt_at",
+                () -> this.mailOutboxRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        NostalgiaMailOutboxStatus.PENDING, now, Limit.of(50)
+                ),
+                NostalgiaMailOutboxStatus.PENDING.name(), now, 50
+        );
+    }
+
+    @Test
+    void givenSentAt_whenSentMailsArePurged_thenStatusSentAtIndexIsUsed() {
+        final LocalDateTime sentAt = LocalDateTime.now();
+        this.assertIndexUsed(
+                "ix_nostalgia_mail_outbox_status_sent_at",
+                () -> this.mailOutboxRepository.deleteAllByStatusAndSentAtBefore(NostalgiaMailOutboxStatus.SENT.name(), sentAt, 1000),
+                NostalgiaMailOutboxStatus.SENT.name(), sentAt, 1000
+        );
+    }
+
+
+    /**
+     * Runs the given query, and asserts that the single statement it issues is answered from the given index.
+     * <p>
+     * The arguments are bound to the placeholders of the recorded statement in their order. The remaining placeholders,
+     * which Hibernate adds to pad the batch loads, are bound with {@code null}.
+     * </p>
+     */
+    private void assertIndexUsed(final String indexName, final Runnable query, final Object... arguments) {
+
+        StatementRecorder.STATEMENTS.clear();
+        query.run();
+
+        final List<String> statements = List.copyOf(StatementRecorder.STATEMENTS);
+        Assertions.assertEquals(1, statements.size(), () -> "Query does not issue a single statement: " + statements);
+        final String sql = statements.get(0);
+
+        final int placeholderCount = (int) sql.chars().filter(character -> character == '?').count();
+        Assertions.assertTrue(arguments.length <= placeholderCount, () -> "Query has fewer placeholders than arguments: " + sql);
+        final Object[] parameters = Arrays.copyOf(arguments, placeholderCount);
+
+        final String plan = this.jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+
+        Assertions.assertNotNull(plan);
+        final String normalizedPlan = plan.toLowerCase(Locale.ROOT);
+        Assertions.assertFalse(normalizedPlan.contains("tablescan"), () -> "Query scans the table: " + plan);
+        Assertions.assertTrue(normalizedPlan.contains(indexName), () -> "Query does not use " + indexName + ": " + plan);
+    }
+
+
+    /**
+     * Records the statements Hibernate prepares, which is registered as the statement inspector of the session factory.
+     */
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(final String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
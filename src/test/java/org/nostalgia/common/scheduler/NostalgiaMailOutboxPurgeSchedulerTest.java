@@ -0,0 +1,74 @@
+package org.nostalgia.common.scheduler;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nostalgia.common.model.NostalgiaMail;
+import org.nostalgia.common.service.NostalgiaMailService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Verifies that the purge of the mail outbox deletes only the mails sent before the retention.
+ * <p>
+ * The mail service records the thresholds it is asked to delete before, instead of deleting the mails.
+ * </p>
+ */
+class NostalgiaMailOutboxPurgeSchedulerTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final RecordingMailService mailService = new RecordingMailService();
+
+    private final NostalgiaMailOutboxPurgeScheduler mailOutboxPurgeScheduler = new NostalgiaMailOutboxPurgeScheduler(
+            this.mailService,
+            RETENTION
+    );
+
+    @Test
+    void givenRetention_whenSentMailsArePurged_thenMailsSentBeforeRetentionAreDeleted() {
+
+        final LocalDateTime purgeStartedAt = LocalDateTime.now();
+        this.mailOutboxPurgeScheduler.purgeSentMails();
+        final LocalDateTime purgeEndedAt = LocalDateTime.now();
+
+        final List<LocalDateTime> sentAtThresholds = this.mailService.getSentAtThresholds();
+        Assertions.assertEquals(1, sentAtThresholds.size());
+
+        final LocalDateTime sentAtThreshold = sentAtThresholds.get(0);
+        Assertions.assertFalse(sentAtThreshold.isBefore(purgeStartedAt.minus(RETENTION)));
+        Assertions.assertFalse(sentAtThreshold.isAfter(purgeEndedAt.minus(RETENTION)));
+    }
+
+
+    /**
+     * A {@link NostalgiaMailService} which records the thresholds of the purges.
+     */
+    private static final class RecordingMailService implements NostalgiaMailService {
+
+        private final List<LocalDateTime> sentAtThresholds = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(final NostalgiaMail mail) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void dispatch() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteAllSentBefore(final LocalDateTime sentAtThreshold) {
+            this.sentAtThresholds.add(sentAtThreshold);
+        }
+
+        List<LocalDateTime> getSentAtThresholds() {
+            return List.copyOf(this.sentAtThresholds);
+        }
+
+    }
+
+}
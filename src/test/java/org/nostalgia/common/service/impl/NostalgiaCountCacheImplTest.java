@@ -0,0 +1,153 @@
+package org.nostalgia.common.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nostalgia.auth.model.NostalgiaRoleFilter;
+import org.nostalgia.auth.model.entity.NostalgiaRoleEntity;
+import org.nostalgia.auth.model.entity.NostalgiaUserEntity;
+import org.nostalgia.auth.model.enums.NostalgiaRoleStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Verifies the caching of the page counts, keyed by the normalized filter and invalidated by the generation of the type.
+ * <p>
+ * The counts are supplied by a counter which counts its own calls, so a cached count does not call it again.
+ * </p>
+ */
+class NostalgiaCountCacheImplTest {
+
+    private static final long MAXIMUM_SIZE = 100;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+
+    private final CountingCounter counter = new CountingCounter();
+
+    private final NostalgiaCountCacheImpl countCache = createCountCache(MAXIMUM_SIZE);
+
+    @Test
+    void givenCachedCount_whenCountIsRequestedAgain_thenCounterIsNotCalled() {
+
+        final NostalgiaRoleFilter filter = createFilter("admin", NostalgiaRoleStatus.ACTIVE);
+
+        Assertions.assertEquals(1, this.countCache.get(NostalgiaRoleEntity.class, filter, this.counter));
+        Assertions.assertEquals(1, this.countCache.get(NostalgiaRoleEntity.class, filter, this.counter));
+
+        Assertions.assertEquals(1, this.counter.getCallCount());
+    }
+
+    @Test
+    void givenFiltersWithStatusesInDifferentOrder_whenCountsAreRequested_thenCountIsShared() {
+
+        this.countCache.get(NostalgiaRoleEntity.class, createFilter("admin", NostalgiaRoleStatus.ACTIVE, NostalgiaRoleStatus.PASSIVE), this.counter);
+        this.countCache.get(NostalgiaRoleEntity.class, createFilter("admin", NostalgiaRoleStatus.PASSIVE, NostalgiaRoleStatus.ACTIVE), this.counter);
+
+        Assertions.assertEquals(1, this.counter.getCallCount());
+    }
+
+    @Test
+    void givenEmptyFilterAndNoFilter_whenCountsAreRequested_thenCountIsShared() {
+
+        this.countCache.get(NostalgiaRoleEntity.class, NostalgiaRoleFilter.builder().build(), this.counter);
+        this.countCache.get(NostalgiaRoleEntity.class, null, this.counter);
+
+        Assertions.assertEquals(1, this.counter.getCallCount());
+    }
+
+    @Test
+    void givenDifferentFiltersAndTypes_whenCountsAreRequested_thenEachIsCounted() {
+
+        this.countCache.get(NostalgiaRoleEntity.class, createFilter("admin", NostalgiaRoleStatus.ACTIVE), this.counter);
+        this.countCache.get(NostalgiaRoleEntity.class, createFilter("user", NostalgiaRoleStatus.ACTIVE), this.counter);
+        this.countCache.get(NostalgiaUserEntity.class, createFilter("admin", NostalgiaRoleStatus.ACTIVE), this.counter);
+
+        Assertions.assertEquals(3, this.counter.getCallCount());
+    }
+
+    @Test
+    void givenNoTransaction_whenTypeIsInvalidated_thenCountOfTypeIsCountedAgain() {
+
+        final NostalgiaRoleFilter filter = createFilter("admin", NostalgiaRoleStatus.ACTIVE);
+        this.countCache.get(NostalgiaRoleEntity.class, filter, this.counter);
+        this.countCache.get(NostalgiaUserEntity.class, filter, this.counter);
+
+        this.countCache.invalidate(NostalgiaRoleEntity.class);
+
+        Assertions.assertEquals(3, this.countCache.get(NostalgiaRoleEntity.class, filter, this.counter));
+        Assertions.assertEquals(2, this.countCache.get(NostalgiaUserEntity.class, filter, this.counter));
+        Assertions.assertEquals(3, this.counter.getCallCount());
+    }
+
+    @Test
+    void givenActiveTransaction_whenTypeIsInvalidated_thenCountIsEvictedAfterCommit() {
+
+        final NostalgiaRoleFilter filter = createFilter("admin", NostalgiaRoleStatus.ACTIVE);
+        this.countCache.get(NostalgiaRoleEntity.class, filter, this.counter);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.countCache.invalidate(NostalgiaRoleEntity.class);
+
+            Assertions.assertEquals(1, this.countCache.get(NostalgiaRoleEntity.class, filter, this.counter));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(2, this.countCache.get(NostalgiaRoleEntity.class, filter, this.counter));
+        Assertions.assertEquals(2, this.counter.getCallCount());
+    }
+
+    @Test
+    void givenDisabledCache_whenCountIsRequestedAgain_thenCounterIsCalledEachTime() {
+
+        final NostalgiaCountCacheImpl disabledCountCache = createCountCache(0);
+        final NostalgiaRoleFilter filter = createFilter("admin", NostalgiaRoleStatus.ACTIVE);
+
+        disabledCountCache.get(NostalgiaRoleEntity.class, filter, this.counter);
+        disabledCountCache.invalidate(NostalgiaRoleEntity.class);
+        disabledCountCache.get(NostalgiaRoleEntity.class, filter, this.counter);
+
+        Assertions.assertEquals(2, this.counter.getCallCount());
+    }
+
+
+    private static NostalgiaCountCacheImpl createCountCache(final long maximumSize) {
+        return new NostalgiaCountCacheImpl(maximumSize, EXPIRE_AFTER_WRITE, new SimpleMeterRegistry());
+    }
+
+    private static NostalgiaRoleFilter createFilter(final String name, final NostalgiaRoleStatus... statuses) {
+        return NostalgiaRoleFilter.builder()
+                .name(name)
+                .statuses(new LinkedHashSet<>(List.of(statuses)))
+                .build();
+    }
+
+
+    /**
+     * Counter which returns the number of its calls as the count.
+     */
+    private static class CountingCounter implements LongSupplier {
+
+        private final AtomicLong callCount = new AtomicLong();
+
+        @Override
+        public long getAsLong() {
+            return this.callCount.incrementAndGet();
+        }
+
+        long getCallCount() {
+            return this.callCount.get();
+        }
+
+    }
+
+}
@@ -0,0 +1,279 @@
+package org.nostalgia.common.service.impl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.nostalgia.common.model.NostalgiaMail;
+import org.nostalgia.common.model.NostalgiaMailOutbox;
+import org.nostalgia.common.model.enums.NostalgiaMailOutboxStatus;
+import org.nostalgia.common.model.enums.NostalgiaMailTemplate;
+import org.nostalgia.common.port.NostalgiaMailOutboxPort;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verifies the delivery of the mail outbox against a GreenMail SMTP server, and the purge of the delivered mails.
+ * <p>
+ * The outbox is kept in memory and the dispatches are triggered directly, while the dispatches requested after
+ * a commit run on the calling thread.
+ * </p>
+ */
+class NostalgiaMailOutboxDispatcherTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final InMemoryMailOutboxPort mailOutboxPort = new InMemoryMailOutboxPort();
+
+    private NostalgiaMailOutboxDispatcher mailOutboxDispatcher;
+
+    @Test
+    void givenMoreMailsThanBatchSize_whenOutboxIsDispatched_thenAllMailsAreDeliveredAndMarkedAsSent() throws Exception {
+
+        this.mailOutboxDispatcher = this.createDispatcher(GREEN_MAIL.getSmtp().getPort(), 2, 3);
+        this.mailOutboxPort.save(createMail("first@nostalgia.org", "First <User>"));
+        this.mailOutboxPort.save(createMail("second@nostalgia.org", "Second User"));
+        this.mailOutboxPort.save(createMail("third@nostalgia.org", "Third User"));
+
+        this.mailOutboxDispatcher.dispatch();
+
+        final MimeMessage[] receivedMessages = GREEN_MAIL.getReceivedMessages();
+        Assertions.assertEquals(3, receivedMessages.length);
+
+        final MimeMessage firstMessage = receivedMessages[0];
+        Assertions.assertEquals("first@nostalgia.org", firstMessage.getAllRecipients()[0].toString());
+        Assertions.assertEquals("Şifrenizi Oluşturun", firstMessage.getSubject());
+        final String content = (String) firstMessage.getContent();
+        Assertions.assertTrue(content.contains("First &lt;User&gt;"));
+        Assertions.assertTrue(content.contains("https://nostalgia.org/create-password/1"));
+
+        this.mailOutboxPort.findAll().forEach(mailOutbox -> {
+            Assertions.assertEquals(NostalgiaMailOutboxStatus.SENT, mailOutbox.getStatus());
+            Assertions.assertEquals(1, mailOutbox.getAttemptCount());
+        });
+    }
+
+    @Test
+    void givenUnreachableSmtpServer_whenOutboxIsDispatched_thenMailIsRetriedWithBackoff() throws Exception {
+
+        this.mailOutboxDispatcher = this.createDispatcher(findUnusedPort(), 50, 3);
+        this.mailOutboxPort.save(createMail("first@nostalgia.org", "First User"));
+
+        final LocalDateTime dispatchedAt = LocalDateTime.now();
+        this.mailOutboxDispatcher.dispatch();
+
+        final NostalgiaMailOutbox mailOutbox = this.mailOutboxPort.findAll().get(0);
+        Assertions.assertEquals(NostalgiaMailOutboxStatus.PENDING, mailOutbox.getStatus());
+        Assertions.assertEquals(1, mailOutbox.getAttemptCount());
+        Assertions.assertFalse(mailOutbox.getNextAttemptAt().isBefore(dispatchedAt.plus(INITIAL_BACKOFF)));
+        Assertions.assertTrue(mailOutbox.getNextAttemptAt().isBefore(dispatchedAt.plus(LEASE)));
+
+        this.mailOutboxDispatcher.dispatch();
+
+        Assertions.assertEquals(1, this.mailOutboxPort.findAll().get(0).getAttemptCount());
+    }
+
+    @Test
+    void givenUnreachableSmtpServer_whenMaxAttemptsAreReached_thenMailIsMarkedAsFailed() throws Exception {
+
+        this.mailOutboxDispatcher = this.createDispatcher(findUnusedPort(), 50, 3);
+        this.mailOutboxPort.save(createMail("first@nostalgia.org", "First User"));
+
+        for (int i = 0; i < 3; i++) {
+            final LocalDateTime dispatchedAt = LocalDateTime.now();
+            this.mailOutboxDispatcher.dispatch();
+
+            final NostalgiaMailOutbox mailOutbox = this.mailOutboxPort.findAll().get(0);
+            Assertions.assertEquals(i + 1, mailOutbox.getAttemptCount());
+
+            if (mailOutbox.getStatus() == NostalgiaMailOutboxStatus.PENDING) {
+                Assertions.assertFalse(mailOutbox.getNextAttemptAt()
+                        .isBefore(dispatchedAt.plus(INITIAL_BACKOFF.multipliedBy(1L << i))));
+                mailOutbox.setNextAttemptAt(LocalDateTime.now());
+            }
+        }
+
+        final NostalgiaMailOutbox mailOutbox = this.mailOutboxPort.findAll().get(0);
+        Assertions.assertEquals(NostalgiaMailOutboxStatus.FAILED, mailOutbox.getStatus());
+        Assertions.assertNotNull(this.mailOutboxPort.getLastError(mailOutbox.getId()));
+        Assertions.assertEquals(0, GREEN_MAIL.getReceivedMessages().length);
+    }
+
+    @Test
+    void givenSentMailsMoreThanChunkSize_whenSentMailsArePurged_thenOnlySentMailsAreDeletedInChunks() {
+
+        this.mailOutboxDispatcher = this.createDispatcher(GREEN_MAIL.getSmtp().getPort(), 50, 3);
+        final NostalgiaMailServiceImpl mailService = new NostalgiaMailServiceImpl(this.mailOutboxPort, this.mailOutboxDispatcher, 2);
+        this.mailOutboxPort.save(createMail("first@nostalgia.org", "First User"));
+        this.mailOutboxPort.save(createMail("second@nostalgia.org", "Second User"));
+        this.mailOutboxPort.save(createMail("third@nostalgia.org", "Third User"));
+        this.mailOutboxDispatcher.dispatch();
+        this.mailOutboxPort.save(createMail("fourth@nostalgia.org", "Fourth User"));
+
+        mailService.deleteAllSentBefore(LocalDateTime.now().minusMinutes(1));
+
+        Assertions.assertEquals(4, this.mailOutboxPort.findAll().size());
+
+        mailService.deleteAllSentBefore(LocalDateTime.now().plusMinutes(1));
+
+        final List<NostalgiaMailOutbox> mailOutboxes = this.mailOutboxPort.findAll();
+        Assertions.assertEquals(1, mailOutboxes.size());
+        Assertions.assertEquals(NostalgiaMailOutboxStatus.PENDING, mailOutboxes.get(0).getStatus());
+        Assertions.assertEquals(List.of(0, 2, 1), this.mailOutboxPort.getDeletedCounts());
+    }
+
+
+    private NostalgiaMailOutboxDispatcher createDispatcher(final int port, final int batchSize, final int maxAttempts) {
+
+        final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(port);
+        mailSender.setDefaultEncoding("UTF-8");
+
+        return new NostalgiaMailOutboxDispatcher(
+                this.mailOutboxPort,
+                mailSender,
+                new NostalgiaMailTemplateEngineImpl(),
+                new SyncTaskExecutor(),
+                batchSize,
+                LEASE,
+                maxAttempts,
+                INITIAL_BACKOFF,
+                MAX_BACKOFF
+        );
+    }
+
+    private static NostalgiaMail createMail(final String to, final String userFullName) {
+        return NostalgiaMail.builder()
+                .to(List.of(to))
+                .template(NostalgiaMailTemplate.CREATE_PASSWORD)
+                .parameters(Map.of(
+                        "userFullName", userFullName,
+                        "url", "https://nostalgia.org/create-password/1"
+                ))
+                .build();
+    }
+
+    private static int findUnusedPort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+
+    /**
+     * An in-memory {@link NostalgiaMailOutboxPort} which claims the due mails in the order they are saved.
+     */
+    private static final class InMemoryMailOutboxPort implements NostalgiaMailOutboxPort {
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        private final Map<Long, NostalgiaMailOutbox> mailOutboxes = new ConcurrentHashMap<>();
+
+        private final Map<Long, String> lastErrors = new ConcurrentHashMap<>();
+
+        private final Map<Long, LocalDateTime> sentAts = new ConcurrentHashMap<>();
+
+        private final List<Integer> deletedCounts = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void save(final NostalgiaMail mail) {
+            final NostalgiaMailOutbox mailOutbox = NostalgiaMailOutbox.builder()
+                    .id(this.sequence.incrementAndGet())
+                    .mail(mail)
+                    .status(NostalgiaMailOutboxStatus.PENDING)
+                    .attemptCount(0)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build();
+            this.mailOutboxes.put(mailOutbox.getId(), mailOutbox);
+        }
+
+        @Override
+        public List<NostalgiaMailOutbox> claim(final int limit, final Duration lease) {
+            final LocalDateTime now = LocalDateTime.now();
+            final List<NostalgiaMailOutbox> claimedMailOutboxes = this.findAll().stream()
+                    .filter(mailOutbox -> mailOutbox.getStatus() == NostalgiaMailOutboxStatus.PENDING)
+                    .filter(mailOutbox -> !mailOutbox.getNextAttemptAt().isAfter(now))
+                    .limit(limit)
+                    .toList();
+            claimedMailOutboxes.forEach(mailOutbox -> mailOutbox.setNextAttemptAt(now.plus(lease)));
+            return claimedMailOutboxes;
+        }
+
+        @Override
+        public void markAllSent(final Set<Long> ids) {
+            ids.stream().map(this.mailOutboxes::get).forEach(mailOutbox -> {
+                mailOutbox.setStatus(NostalgiaMailOutboxStatus.SENT);
+                mailOutbox.setAttemptCount(mailOutbox.getAttemptCount() + 1);
+                this.sentAts.put(mailOutbox.getId(), LocalDateTime.now());
+            });
+        }
+
+        @Override
+        public void markRetried(final Long id, final LocalDateTime nextAttemptAt, final String error) {
+            final NostalgiaMailOutbox mailOutbox = this.mailOutboxes.get(id);
+            mailOutbox.setAttemptCount(mailOutbox.getAttemptCount() + 1);
+            mailOutbox.setNextAttemptAt(nextAttemptAt);
+            this.lastErrors.put(id, error);
+        }
+
+        @Override
+        public void markFailed(final Long id, final String error) {
+            final NostalgiaMailOutbox mailOutbox = this.mailOutboxes.get(id);
+            mailOutbox.setStatus(NostalgiaMailOutboxStatus.FAILED);
+            mailOutbox.setAttemptCount(mailOutbox.getAttemptCount() + 1);
+            this.lastErrors.put(id, error);
+        }
+
+        @Override
+        public int deleteAllSentBefore(final LocalDateTime sentAtThreshold, final int chunkSize) {
+            final List<Long> deletedIds = this.findAll().stream()
+                    .filter(mailOutbox -> mailOutbox.getStatus() == NostalgiaMailOutboxStatus.SENT)
+                    .filter(mailOutbox -> this.sentAts.get(mailOutbox.getId()).isBefore(sentAtThreshold))
+                    .limit(chunkSize)
+                    .map(NostalgiaMailOutbox::getId)
+                    .toList();
+            deletedIds.forEach(id -> {
+                this.mailOutboxes.remove(id);
+                this.sentAts.remove(id);
+            });
+            this.deletedCounts.add(deletedIds.size());
+            return deletedIds.size();
+        }
+
+        List<NostalgiaMailOutbox> findAll() {
+            return this.mailOutboxes.values().stream()
+                    .sorted(Comparator.comparing(NostalgiaMailOutbox::getId))
+                    .toList();
+        }
+
+        String getLastError(final Long id) {
+            return this.lastErrors.get(id);
+        }
+
+        List<Integer> getDeletedCounts() {
+            return List.copyOf(this.deletedCounts);
+        }
+
+    }
+
+}